@@ -0,0 +1,54 @@
+package com.algorithms.benchmarks;
+
+import com.algorithms.Edge;
+import com.algorithms.EdgeWeightedGraph;
+import com.algorithms.IndexMinPQ;
+
+/**
+ * Eager Prim's algorithm on the generic {@code IndexMinPQ<Double>}, as
+ * {@link com.algorithms.PrimMST} was written before it moved to
+ * {@link com.algorithms.DoubleIndexMinPQ}; kept as the baseline.
+ */
+final class BoxedPrimMST {
+    private final Edge[] edgeTo;
+    private final double[] distTo;
+    private final boolean[] marked;
+    private final IndexMinPQ<Double> pq;
+
+    BoxedPrimMST(EdgeWeightedGraph G) {
+        edgeTo = new Edge[G.V()];
+        distTo = new double[G.V()];
+        marked = new boolean[G.V()];
+        for (int v = 0; v < G.V(); v++) {
+            distTo[v] = Double.POSITIVE_INFINITY;
+        }
+        pq = new IndexMinPQ<>(G.V());
+        distTo[0] = 0.0;
+        pq.insert(0, 0.0);
+        while (!pq.isEmpty()) {
+            visit(G, pq.delMin());
+        }
+    }
+
+    private void visit(EdgeWeightedGraph G, int v) {
+        marked[v] = true;
+        for (Edge e : G.adj(v)) {
+            int w = e.other(v);
+            if (marked[w]) continue;
+            if (e.weight() < distTo[w]) {
+                edgeTo[w] = e;
+                distTo[w] = e.weight();
+                if (pq.contains(w)) pq.changeKey(w, distTo[w]);
+                else                pq.insert(w, distTo[w]);
+            }
+        }
+    }
+
+    double weight() {
+        double weight = 0.0;
+        for (Edge e : edgeTo) {
+            if (e != null) weight += e.weight();
+        }
+        return weight;
+    }
+}
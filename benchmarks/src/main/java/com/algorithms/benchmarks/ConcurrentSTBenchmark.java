@@ -0,0 +1,78 @@
+package com.algorithms.benchmarks;
+
+import com.algorithms.ConcurrentST;
+import com.algorithms.ST;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Shared ordered symbol table under a mixed load: each operation is a
+ * {@code get} with probability {@code readPercent} / 100 and otherwise a
+ * {@code put} or {@code delete} of a random key, so the table stays about half
+ * full. A {@link ST} behind one global lock is the baseline. Run with
+ * {@code -t 1}, {@code -t 2}, ... {@code -t 64} to get the scaling curve.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConcurrentSTBenchmark {
+    @Param({"1024", "1048576"})
+    public int keys;
+
+    @Param({"50", "90", "99"})
+    public int readPercent;
+
+    private ST<Integer, Integer> st;
+    private ConcurrentST<Integer, Integer> concurrentST;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        st = new ST<>();
+        concurrentST = new ConcurrentST<>();
+        for (int key = 0; key < keys; key += 2) {
+            st.put(key, key);
+            concurrentST.put(key, key);
+        }
+    }
+
+    @Benchmark
+    public Integer synchronizedST() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Integer key = random.nextInt(keys);
+        boolean read = random.nextInt(100) < readPercent;
+        boolean put = random.nextBoolean();
+        synchronized (st) {
+            if (read) return st.get(key);
+            if (put) st.put(key, key);
+            else     st.delete(key);
+            return key;
+        }
+    }
+
+    @Benchmark
+    public Integer concurrentST() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Integer key = random.nextInt(keys);
+        boolean read = random.nextInt(100) < readPercent;
+        boolean put = random.nextBoolean();
+        if (read) return concurrentST.get(key);
+        if (put) concurrentST.put(key, key);
+        else     concurrentST.delete(key);
+        return key;
+    }
+}
@@ -0,0 +1,82 @@
+package com.algorithms.benchmarks;
+
+import com.algorithms.BreadthFirstPaths;
+import com.algorithms.CC;
+import com.algorithms.CSRGraph;
+import com.algorithms.DepthFirstPaths;
+import com.algorithms.Digraph;
+import com.algorithms.Graph;
+import com.algorithms.KosarajuSharirSCC;
+import com.algorithms.ParallelBreadthFirstPaths;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Traversals over seeded random graphs with {@code V} vertices and
+ * average degree {@code degree}. The recursive DFS-based classes need a deep
+ * stack on the larger sizes, hence {@code -Xss}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xss256m")
+@State(Scope.Benchmark)
+public class GraphBenchmark {
+    @Param({"10000", "1000000"})
+    public int V;
+
+    @Param({"4", "16"})
+    public int degree;
+
+    private Graph graph;
+    private CSRGraph csrGraph;
+    private Digraph digraph;
+
+    @Setup
+    public void setup() {
+        graph = Inputs.graph(V, degree);
+        csrGraph = new CSRGraph(graph);
+        digraph = Inputs.digraph(V, degree);
+    }
+
+    @Benchmark
+    public BreadthFirstPaths bfs() {
+        return new BreadthFirstPaths(graph, 0);
+    }
+
+    @Benchmark
+    public BreadthFirstPaths bfsCSR() {
+        return new BreadthFirstPaths(csrGraph, 0);
+    }
+
+    @Benchmark
+    public ParallelBreadthFirstPaths parallelBfs() {
+        return new ParallelBreadthFirstPaths(csrGraph, 0);
+    }
+
+    @Benchmark
+    public DepthFirstPaths dfs() {
+        return new DepthFirstPaths(graph, 0);
+    }
+
+    @Benchmark
+    public CC cc() {
+        return new CC(graph);
+    }
+
+    @Benchmark
+    public KosarajuSharirSCC scc() {
+        return new KosarajuSharirSCC(digraph);
+    }
+}
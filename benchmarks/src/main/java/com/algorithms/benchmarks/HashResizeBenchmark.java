@@ -0,0 +1,58 @@
+package com.algorithms.benchmarks;
+
+import com.algorithms.ConcurrentSeparateChainingHashST;
+import com.algorithms.SeparateChainingHashST;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Latency of puts into a growing table. Each operation puts a fresh key, so
+ * the table keeps resizing during the iteration. Look at the p99.99 and max
+ * columns: a stop-the-world resize shows up there, an incremental one does
+ * not. A {@link SeparateChainingHashST} behind one global lock is the
+ * baseline. Run with {@code -t 1}, {@code -t 2}, ... for contention.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@State(Scope.Benchmark)
+public class HashResizeBenchmark {
+    private final AtomicInteger next = new AtomicInteger();
+
+    private SeparateChainingHashST<Integer, Integer> st;
+    private ConcurrentSeparateChainingHashST<Integer, Integer> concurrentST;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        next.set(0);
+        st = new SeparateChainingHashST<>();
+        concurrentST = new ConcurrentSeparateChainingHashST<>();
+    }
+
+    @Benchmark
+    public void synchronizedSeparateChainingHashST() {
+        Integer key = next.getAndIncrement();
+        synchronized (st) {
+            st.put(key, key);
+        }
+    }
+
+    @Benchmark
+    public void concurrentSeparateChainingHashST() {
+        Integer key = next.getAndIncrement();
+        concurrentST.put(key, key);
+    }
+}
@@ -0,0 +1,102 @@
+package com.algorithms.benchmarks;
+
+import com.algorithms.Digraph;
+import com.algorithms.DirectedEdge;
+import com.algorithms.Edge;
+import com.algorithms.EdgeWeightedDigraph;
+import com.algorithms.EdgeWeightedGraph;
+import com.algorithms.Graph;
+import com.algorithms.StdRandom;
+
+/**
+ * Seeded input generators shared by the benchmarks, so every fork sees the
+ * same keys and graphs.
+ */
+final class Inputs {
+    static final long SEED = 20160101L;
+
+    private Inputs() { }
+
+    /**
+     * Returns {@code n} keys drawn from the named distribution:
+     * {@code uniform} (distinct-ish random ints), {@code sorted} (0..n-1 ascending),
+     * {@code reversed} (n-1..0 descending) or {@code few-distinct} (random ints below 16).
+     */
+    static Integer[] keys(int n, String distribution) {
+        StdRandom.setSeed(SEED);
+        Integer[] a = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            switch (distribution) {
+                case "uniform":      a[i] = StdRandom.uniform(Integer.MAX_VALUE); break;
+                case "sorted":       a[i] = i; break;
+                case "reversed":     a[i] = n - 1 - i; break;
+                case "few-distinct": a[i] = StdRandom.uniform(16); break;
+                default: throw new IllegalArgumentException("unknown distribution: " + distribution);
+            }
+        }
+        return a;
+    }
+
+    static Graph graph(int V, int degree) {
+        StdRandom.setSeed(SEED);
+        Graph G = new Graph(V);
+        for (int i = 0; i < V * degree / 2; i++) {
+            G.addEdge(StdRandom.uniform(V), StdRandom.uniform(V));
+        }
+        return G;
+    }
+
+    static Digraph digraph(int V, int degree) {
+        StdRandom.setSeed(SEED);
+        Digraph G = new Digraph(V);
+        for (int i = 0; i < V * degree; i++) {
+            G.addEdge(StdRandom.uniform(V), StdRandom.uniform(V));
+        }
+        return G;
+    }
+
+    static EdgeWeightedGraph edgeWeightedGraph(int V, int degree) {
+        StdRandom.setSeed(SEED);
+        EdgeWeightedGraph G = new EdgeWeightedGraph(V);
+        for (int i = 0; i < V * degree / 2; i++) {
+            G.addEdge(new Edge(StdRandom.uniform(V), StdRandom.uniform(V), StdRandom.uniform()));
+        }
+        return G;
+    }
+
+    static EdgeWeightedDigraph edgeWeightedDigraph(int V, int degree) {
+        StdRandom.setSeed(SEED);
+        EdgeWeightedDigraph G = new EdgeWeightedDigraph(V);
+        for (int i = 0; i < V * degree; i++) {
+            G.addEdge(new DirectedEdge(StdRandom.uniform(V), StdRandom.uniform(V), StdRandom.uniform()));
+        }
+        return G;
+    }
+
+    /**
+     * Returns {@code n} lowercase ASCII strings of 8 to 16 chars: {@code random}
+     * strings, or {@code prefixed} ones that share a 24-char prefix, like URLs
+     * of one site.
+     */
+    static String[] strings(int n, String distribution) {
+        StdRandom.setSeed(SEED);
+        String prefix;
+        switch (distribution) {
+            case "random":   prefix = ""; break;
+            case "prefixed": prefix = "https://example.com/item/"; break;
+            default: throw new IllegalArgumentException("unknown distribution: " + distribution);
+        }
+        String[] a = new String[n];
+        StringBuilder s = new StringBuilder();
+        for (int i = 0; i < n; i++) {
+            s.setLength(0);
+            s.append(prefix);
+            int length = StdRandom.uniform(8, 17);
+            for (int k = 0; k < length; k++) {
+                s.append((char) ('a' + StdRandom.uniform(26)));
+            }
+            a[i] = s.toString();
+        }
+        return a;
+    }
+}
@@ -0,0 +1,82 @@
+package com.algorithms.benchmarks;
+
+import com.algorithms.EdgeWeightedGraph;
+import com.algorithms.FilterKruskalMST;
+import com.algorithms.LazyPrimMST;
+import com.algorithms.ParallelBoruvkaMST;
+import com.algorithms.PrimMST;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Minimum spanning trees over seeded random graphs with {@code V} vertices
+ * and average degree {@code degree}, from sparse to dense. The Prim runs
+ * compare the boxed {@code IndexMinPQ<Double>} it used to run on with
+ * {@link com.algorithms.DoubleIndexMinPQ} as a binary and as a 4-ary heap.
+ * <p>
+ * At degree 4 the graphs are disconnected (169 components for V = 10000,
+ * 1941 for V = 100000), so the Prim variants span only the component of
+ * vertex 0 while {@link FilterKruskalMST} and {@link ParallelBoruvkaMST}
+ * build a spanning forest; their results agree only at the connected
+ * densities, 32 and 256.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+@State(Scope.Benchmark)
+public class MSTBenchmark {
+    @Param({"10000", "100000"})
+    public int V;
+
+    @Param({"4", "32", "256"})
+    public int degree;
+
+    private EdgeWeightedGraph G;
+
+    @Setup
+    public void setup() {
+        G = Inputs.edgeWeightedGraph(V, degree);
+    }
+
+    @Benchmark
+    public double primMST() {
+        return new PrimMST(G).weight();
+    }
+
+    @Benchmark
+    public double primMSTBinaryHeap() {
+        return new PrimMST(G, 2).weight();
+    }
+
+    @Benchmark
+    public double boxedPrimMST() {
+        return new BoxedPrimMST(G).weight();
+    }
+
+    @Benchmark
+    public double lazyPrimMST() {
+        return new LazyPrimMST(G).weight();
+    }
+
+    @Benchmark
+    public double filterKruskalMST() {
+        return new FilterKruskalMST(G).weight();
+    }
+
+    @Benchmark
+    public double parallelBoruvkaMST() {
+        return new ParallelBoruvkaMST(G).weight();
+    }
+}
@@ -0,0 +1,105 @@
+package com.algorithms.benchmarks;
+
+import com.algorithms.BPlusTreeST;
+import com.algorithms.LongBPlusTreeST;
+import com.algorithms.RedBlackBST;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Latency of single lookups in large ordered tables. Sample mode reports the
+ * p50, p90, p99 and p99.9 of each operation, not only the mean. The keys are
+ * random, so at these sizes most lookups miss the cache. {@link RedBlackBST}
+ * and {@code TreeMap}, the red-black tree behind {@code ST}, are the binary-tree
+ * baselines; {@code TreeMap} has no {@code rank}. Memory per key is measured
+ * separately by {@code LongBPlusTreeST.main}.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+@State(Scope.Benchmark)
+public class OrderedSTBenchmark {
+    @Param({"1048576", "16777216"})
+    public int n;
+
+    private Integer[] keys;
+    private long[] primitiveKeys;
+    private int next;
+
+    private TreeMap<Integer, Integer> treeMap;
+    private RedBlackBST<Integer, Integer> redBlackBST;
+    private BPlusTreeST<Integer, Integer> bPlusTree;
+    private LongBPlusTreeST<Integer> longBPlusTree;
+
+    @Setup
+    public void setup() {
+        keys = Inputs.keys(n, "uniform");
+        primitiveKeys = new long[n];
+        treeMap = new TreeMap<>();
+        redBlackBST = new RedBlackBST<>();
+        bPlusTree = new BPlusTreeST<>();
+        longBPlusTree = new LongBPlusTreeST<>();
+        for (int i = 0; i < n; i++) {
+            primitiveKeys[i] = keys[i];
+            treeMap.put(keys[i], i);
+            redBlackBST.put(keys[i], i);
+            bPlusTree.put(keys[i], i);
+            longBPlusTree.put(keys[i], i);
+        }
+    }
+
+    // index of the next key to look up, cycling through all of them
+    private int next() {
+        int i = next;
+        next = i + 1 == n ? 0 : i + 1;
+        return i;
+    }
+
+    @Benchmark
+    public Integer treeMapGet() {
+        return treeMap.get(keys[next()]);
+    }
+
+    @Benchmark
+    public Integer redBlackBSTGet() {
+        return redBlackBST.get(keys[next()]);
+    }
+
+    @Benchmark
+    public Integer bPlusTreeGet() {
+        return bPlusTree.get(keys[next()]);
+    }
+
+    @Benchmark
+    public Integer longBPlusTreeGet() {
+        return longBPlusTree.get(primitiveKeys[next()]);
+    }
+
+    @Benchmark
+    public int redBlackBSTRank() {
+        return redBlackBST.rank(keys[next()]);
+    }
+
+    @Benchmark
+    public int bPlusTreeRank() {
+        return bPlusTree.rank(keys[next()]);
+    }
+
+    @Benchmark
+    public int longBPlusTreeRank() {
+        return longBPlusTree.rank(primitiveKeys[next()]);
+    }
+}
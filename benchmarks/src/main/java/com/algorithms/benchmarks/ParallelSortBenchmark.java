@@ -0,0 +1,78 @@
+package com.algorithms.benchmarks;
+
+import com.algorithms.ParallelMerge;
+import com.algorithms.ParallelSampleSort;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Scaling of the parallel sorts with the number of threads. Each sort runs
+ * inside a {@link ForkJoinPool} of {@code threads} workers, so its tasks stay
+ * in that pool; {@code Arrays.sort} is the single-threaded baseline. Run with
+ * {@code -p threads=1,2,4,...} up to the core count of the machine.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+@State(Scope.Benchmark)
+public class ParallelSortBenchmark {
+    @Param({"1000000", "10000000"})
+    public int n;
+
+    @Param({"uniform", "few-distinct"})
+    public String distribution;
+
+    @Param({"1", "2", "4", "8", "16"})
+    public int threads;
+
+    private Integer[] keys;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setup() {
+        keys = Inputs.keys(n, distribution);
+        pool = new ForkJoinPool(threads);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public Integer[] parallelMerge() {
+        Integer[] a = keys.clone();
+        pool.submit(() -> ParallelMerge.sort(a)).join();
+        return a;
+    }
+
+    @Benchmark
+    public Integer[] parallelSampleSort() {
+        Integer[] a = keys.clone();
+        pool.submit(() -> ParallelSampleSort.sort(a)).join();
+        return a;
+    }
+
+    @Benchmark
+    public Integer[] arraysSort() {
+        Integer[] a = keys.clone();
+        Arrays.sort(a);
+        return a;
+    }
+}
@@ -0,0 +1,87 @@
+package com.algorithms.benchmarks;
+
+import com.algorithms.DoubleIndexMinPQ;
+import com.algorithms.IndexMinPQ;
+import com.algorithms.MaxPQ;
+import com.algorithms.MinPQ;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * One operation inserts every key and then removes them all. The IndexMinPQ
+ * run also lowers the key of every other index before draining, as Prim and
+ * Dijkstra do; the DoubleIndexMinPQ runs repeat it on unboxed keys with a
+ * binary and a 4-ary heap.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PriorityQueueBenchmark {
+    @Param({"1024", "65536"})
+    public int n;
+
+    @Param({"uniform", "sorted", "reversed"})
+    public String distribution;
+
+    private Integer[] keys;
+    private double[] doubleKeys;
+
+    @Setup
+    public void setup() {
+        keys = Inputs.keys(n, distribution);
+        doubleKeys = new double[n];
+        for (int i = 0; i < n; i++) doubleKeys[i] = keys[i];
+    }
+
+    @Benchmark
+    public void minPQ(Blackhole bh) {
+        MinPQ<Integer> pq = new MinPQ<>();
+        for (Integer key : keys) pq.insert(key);
+        while (!pq.isEmpty()) bh.consume(pq.delMin());
+    }
+
+    @Benchmark
+    public void maxPQ(Blackhole bh) {
+        MaxPQ<Integer> pq = new MaxPQ<>(n);
+        for (Integer key : keys) pq.insert(key);
+        while (!pq.isEmpty()) bh.consume(pq.delMax());
+    }
+
+    @Benchmark
+    public void indexMinPQ(Blackhole bh) {
+        IndexMinPQ<Integer> pq = new IndexMinPQ<>(n);
+        for (int i = 0; i < n; i++) pq.insert(i, keys[i]);
+        for (int i = 0; i < n; i += 2) pq.decreaseKey(i, keys[i] - 1);
+        while (!pq.isEmpty()) bh.consume(pq.delMin());
+    }
+
+    @Benchmark
+    public void doubleIndexMinPQ(Blackhole bh) {
+        drain(new DoubleIndexMinPQ(n, 2), bh);
+    }
+
+    @Benchmark
+    public void doubleIndexMinPQ4ary(Blackhole bh) {
+        drain(new DoubleIndexMinPQ(n, 4), bh);
+    }
+
+    private void drain(DoubleIndexMinPQ pq, Blackhole bh) {
+        for (int i = 0; i < n; i++) pq.insert(i, doubleKeys[i]);
+        for (int i = 0; i < n; i += 2) pq.decreaseKey(i, doubleKeys[i] - 1);
+        while (!pq.isEmpty()) bh.consume(pq.delMin());
+    }
+}
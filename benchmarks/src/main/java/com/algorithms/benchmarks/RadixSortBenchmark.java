@@ -0,0 +1,96 @@
+package com.algorithms.benchmarks;
+
+import com.algorithms.LSD;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * LSD radix sort against the JDK comparison sorts on the same keys: int and
+ * long arrays, and objects sorted by an int key. Small sizes show where the
+ * counting passes do not pay for themselves yet; see {@link StringSortBenchmark}
+ * for strings.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class RadixSortBenchmark {
+    private static final Comparator<Integer> BY_VALUE = Comparator.comparingInt(Integer::intValue);
+
+    @Param({"100", "10000", "1000000"})
+    public int n;
+
+    @Param({"uniform", "few-distinct"})
+    public String distribution;
+
+    private int[] ints;
+    private long[] longs;
+    private Integer[] boxed;
+
+    @Setup
+    public void setup() {
+        boxed = Inputs.keys(n, distribution);
+        ints = new int[n];
+        longs = new long[n];
+        for (int i = 0; i < n; i++) {
+            ints[i] = boxed[i];
+            longs[i] = (long) boxed[i] * boxed[i] - boxed[i];
+        }
+    }
+
+    @Benchmark
+    public int[] lsdInt() {
+        int[] a = ints.clone();
+        LSD.sort(a);
+        return a;
+    }
+
+    @Benchmark
+    public int[] arraysSortInt() {
+        int[] a = ints.clone();
+        Arrays.sort(a);
+        return a;
+    }
+
+    @Benchmark
+    public long[] lsdLong() {
+        long[] a = longs.clone();
+        LSD.sort(a);
+        return a;
+    }
+
+    @Benchmark
+    public long[] arraysSortLong() {
+        long[] a = longs.clone();
+        Arrays.sort(a);
+        return a;
+    }
+
+    @Benchmark
+    public Integer[] lsdByKey() {
+        Integer[] a = boxed.clone();
+        LSD.sort(a, Integer::intValue);
+        return a;
+    }
+
+    @Benchmark
+    public Integer[] arraysSortByKey() {
+        Integer[] a = boxed.clone();
+        Arrays.sort(a, BY_VALUE);
+        return a;
+    }
+}
@@ -0,0 +1,76 @@
+package com.algorithms.benchmarks;
+
+import com.algorithms.DijkstraSP;
+import com.algorithms.EdgeWeightedDigraph;
+import com.algorithms.StdRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Point-to-point shortest-path queries on a seeded random digraph: a reused
+ * {@link DijkstraSP} workspace with early exit against a fresh full search
+ * per query.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+@State(Scope.Benchmark)
+public class ShortestPathBenchmark {
+    private static final int QUERIES = 256;
+
+    @Param({"100000", "1000000"})
+    public int V;
+
+    @Param({"4"})
+    public int degree;
+
+    private EdgeWeightedDigraph G;
+    private DijkstraSP workspace;
+    private int[] sources;
+    private int[] targets;
+
+    @Setup
+    public void setup() {
+        G = Inputs.edgeWeightedDigraph(V, degree);
+        workspace = new DijkstraSP(G);
+        sources = new int[QUERIES];
+        targets = new int[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            sources[i] = StdRandom.uniform(V);
+            targets[i] = StdRandom.uniform(V);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public double reusedWorkspace() {
+        double sum = 0.0;
+        for (int i = 0; i < QUERIES; i++) {
+            sum += workspace.search(sources[i], targets[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public double freshSearch() {
+        double sum = 0.0;
+        for (int i = 0; i < QUERIES; i++) {
+            sum += new DijkstraSP(G, sources[i]).distTo(targets[i]);
+        }
+        return sum;
+    }
+}
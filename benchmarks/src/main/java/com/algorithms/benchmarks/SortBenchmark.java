@@ -0,0 +1,71 @@
+package com.algorithms.benchmarks;
+
+import com.algorithms.Heap;
+import com.algorithms.Insertion;
+import com.algorithms.Selection;
+import com.algorithms.Shell;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Each operation sorts a fresh copy of the input; the copy is part of the
+ * measured time, which is negligible next to the quadratic sorts.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SortBenchmark {
+    @Param({"1000", "10000"})
+    public int n;
+
+    @Param({"uniform", "sorted", "reversed", "few-distinct"})
+    public String distribution;
+
+    private Integer[] keys;
+
+    @Setup
+    public void setup() {
+        keys = Inputs.keys(n, distribution);
+    }
+
+    @Benchmark
+    public Integer[] insertion() {
+        Integer[] a = keys.clone();
+        Insertion.sort(a);
+        return a;
+    }
+
+    @Benchmark
+    public Integer[] selection() {
+        Integer[] a = keys.clone();
+        Selection.sort(a);
+        return a;
+    }
+
+    @Benchmark
+    public Integer[] shell() {
+        Integer[] a = keys.clone();
+        Shell.sort(a);
+        return a;
+    }
+
+    @Benchmark
+    public Integer[] heap() {
+        Integer[] a = keys.clone();
+        Heap.sort(a);
+        return a;
+    }
+}
@@ -0,0 +1,54 @@
+package com.algorithms.benchmarks;
+
+import com.algorithms.BST;
+import com.algorithms.RedBlackBST;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Builds a table from keys in ascending order and then gets every key. BST
+ * degenerates into a linked list, so its time grows with n^2, while
+ * RedBlackBST stays at n log n: compare the scores as n quadruples.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xss256m")
+@State(Scope.Benchmark)
+public class SortedInsertBenchmark {
+    @Param({"1024", "4096", "16384"})
+    public int n;
+
+    private Integer[] keys;
+
+    @Setup
+    public void setup() {
+        keys = Inputs.keys(n, "sorted");
+    }
+
+    @Benchmark
+    public void bst(Blackhole bh) {
+        BST<Integer, Integer> st = new BST<>();
+        for (Integer key : keys) st.put(key, key);
+        for (Integer key : keys) bh.consume(st.get(key));
+    }
+
+    @Benchmark
+    public void redBlackBST(Blackhole bh) {
+        RedBlackBST<Integer, Integer> st = new RedBlackBST<>();
+        for (Integer key : keys) st.put(key, key);
+        for (Integer key : keys) bh.consume(st.get(key));
+    }
+}
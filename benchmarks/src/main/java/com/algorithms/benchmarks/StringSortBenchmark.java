@@ -0,0 +1,63 @@
+package com.algorithms.benchmarks;
+
+import com.algorithms.MSD;
+import com.algorithms.Quick3string;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * MSD radix sort and 3-way radix quicksort against {@code Arrays.sort} on
+ * strings, with and without a long common prefix.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class StringSortBenchmark {
+    @Param({"100", "10000", "1000000"})
+    public int n;
+
+    @Param({"random", "prefixed"})
+    public String distribution;
+
+    private String[] words;
+
+    @Setup
+    public void setup() {
+        words = Inputs.strings(n, distribution);
+    }
+
+    @Benchmark
+    public String[] msd() {
+        String[] a = words.clone();
+        MSD.sort(a);
+        return a;
+    }
+
+    @Benchmark
+    public String[] quick3string() {
+        String[] a = words.clone();
+        Quick3string.sort(a);
+        return a;
+    }
+
+    @Benchmark
+    public String[] arraysSort() {
+        String[] a = words.clone();
+        Arrays.sort(a);
+        return a;
+    }
+}
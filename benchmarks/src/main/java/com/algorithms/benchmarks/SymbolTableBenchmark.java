@@ -0,0 +1,125 @@
+package com.algorithms.benchmarks;
+
+import com.algorithms.BST;
+import com.algorithms.BinarySearchST;
+import com.algorithms.IntIntLinearProbingST;
+import com.algorithms.LinearProbingHashST;
+import com.algorithms.RedBlackBST;
+import com.algorithms.ST;
+import com.algorithms.SeparateChainingHashST;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * One operation puts every key, gets every key, then deletes every other key.
+ * The gc.alloc.rate.norm that the runner reports for
+ * {@code intIntLinearProbingST} and {@code linearProbingHashST} compares the
+ * bytes allocated per operation with and without boxing.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xss256m")
+@State(Scope.Benchmark)
+public class SymbolTableBenchmark {
+    @Param({"1024", "16384"})
+    public int n;
+
+    @Param({"uniform", "sorted", "few-distinct"})
+    public String distribution;
+
+    private Integer[] keys;
+    private int[] primitiveKeys;
+
+    @Setup
+    public void setup() {
+        keys = Inputs.keys(n, distribution);
+        primitiveKeys = new int[n];
+        for (int i = 0; i < n; i++) {
+            primitiveKeys[i] = keys[i];
+        }
+    }
+
+    @Benchmark
+    public void st(Blackhole bh) {
+        ST<Integer, Integer> st = new ST<>();
+        for (Integer key : keys) st.put(key, key);
+        for (Integer key : keys) bh.consume(st.get(key));
+        for (int i = 0; i < n; i += 2) st.delete(keys[i]);
+        bh.consume(st.size());
+    }
+
+    @Benchmark
+    public void bst(Blackhole bh) {
+        BST<Integer, Integer> st = new BST<>();
+        for (Integer key : keys) st.put(key, key);
+        for (Integer key : keys) bh.consume(st.get(key));
+        for (int i = 0; i < n; i += 2) st.delete(keys[i]);
+        bh.consume(st.size());
+    }
+
+    @Benchmark
+    public void redBlackBST(Blackhole bh) {
+        RedBlackBST<Integer, Integer> st = new RedBlackBST<>();
+        for (Integer key : keys) st.put(key, key);
+        for (Integer key : keys) bh.consume(st.get(key));
+        for (int i = 0; i < n; i += 2) st.delete(keys[i]);
+        bh.consume(st.size());
+    }
+
+    @Benchmark
+    public void binarySearchST(Blackhole bh) {
+        BinarySearchST<Integer, Integer> st = new BinarySearchST<>();
+        for (Integer key : keys) st.put(key, key);
+        for (Integer key : keys) bh.consume(st.get(key));
+        for (int i = 0; i < n; i += 2) st.delete(keys[i]);
+        bh.consume(st.size());
+    }
+
+    @Benchmark
+    public void binarySearchSTBulkLoad(Blackhole bh) {
+        BinarySearchST<Integer, Integer> st = new BinarySearchST<>(keys, keys);
+        for (Integer key : keys) bh.consume(st.get(key));
+        for (int i = 0; i < n; i += 2) st.delete(keys[i]);
+        bh.consume(st.size());
+    }
+
+    @Benchmark
+    public void linearProbingHashST(Blackhole bh) {
+        LinearProbingHashST<Integer, Integer> st = new LinearProbingHashST<>();
+        for (Integer key : keys) st.put(key, key);
+        for (Integer key : keys) bh.consume(st.get(key));
+        for (int i = 0; i < n; i += 2) st.delete(keys[i]);
+        bh.consume(st.size());
+    }
+
+    @Benchmark
+    public void intIntLinearProbingST(Blackhole bh) {
+        IntIntLinearProbingST st = new IntIntLinearProbingST();
+        for (int key : primitiveKeys) st.put(key, key);
+        for (int key : primitiveKeys) bh.consume(st.get(key));
+        for (int i = 0; i < n; i += 2) st.delete(primitiveKeys[i]);
+        bh.consume(st.size());
+    }
+
+    @Benchmark
+    public void separateChainingHashST(Blackhole bh) {
+        SeparateChainingHashST<Integer, Integer> st = new SeparateChainingHashST<>();
+        for (Integer key : keys) st.put(key, key);
+        for (Integer key : keys) bh.consume(st.get(key));
+        for (int i = 0; i < n; i += 2) st.delete(keys[i]);
+        bh.consume(st.size());
+    }
+}
@@ -0,0 +1,64 @@
+package com.algorithms.benchmarks;
+
+import com.algorithms.ConcurrentUF;
+import com.algorithms.UF;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Shared union–find under contention: every thread performs random unions
+ * followed by a connectivity check on the same structure. Run with
+ * {@code -t 1}, {@code -t 2}, ... {@code -t N} to get the scaling curve; the
+ * structures are rebuilt every iteration so they never fill up for long.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UnionFindBenchmark {
+    @Param({"1048576", "16777216"})
+    public int n;
+
+    private UF uf;
+    private ConcurrentUF concurrentUF;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        uf = new UF(n);
+        concurrentUF = new ConcurrentUF(n);
+    }
+
+    @Benchmark
+    public boolean synchronizedUF() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int p = random.nextInt(n);
+        int q = random.nextInt(n);
+        synchronized (uf) {
+            uf.union(p, q);
+            return uf.connected(q, p);
+        }
+    }
+
+    @Benchmark
+    public boolean concurrentUF() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int p = random.nextInt(n);
+        int q = random.nextInt(n);
+        concurrentUF.union(p, q);
+        return concurrentUF.connected(q, p);
+    }
+}
@@ -0,0 +1,641 @@
+package com.algorithms;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Ordered symbol table implemented as a B+-tree, with the same API as
+ * {@link BinarySearchST}. Every node holds up to {@code M} sorted keys in one
+ * array, so a lookup touches about log<sub>M</sub>(n) nodes instead of the
+ * log<sub>2</sub>(n) scattered nodes of a binary search tree. Values live only
+ * in the leaves, and the leaves are linked left to right, so {@code keys(lo, hi)}
+ * descends once and then scans arrays. Internal nodes keep the number of keys
+ * under each child next to the child pointer, for {@code rank} and {@code select}.
+ * <p>
+ * A full node splits in half, except when a key is appended past the last key
+ * of the tree. Then the full node stays full and the new node takes only the
+ * new entry, so keys inserted in ascending order fill the nodes completely.
+ * A node that drops below half full on delete is merged with a sibling or
+ * takes entries from one.
+ */
+public class BPlusTreeST<Key extends Comparable<Key>, Value> {
+    private static final int M = 64;          // max keys in a leaf and max children of an internal node
+    private static final int MIN = M / 2;     // a non-root node with fewer is refilled on delete
+
+    private Node root;
+    private int n;
+
+    // results passed up by insert() and remove()
+    private Key promoted;       // separator between the node insert() split and its new sibling
+    private boolean changed;    // did the last insert() add a key?
+
+    private class Node {
+        int n;                  // number of keys in a leaf, number of children of an internal node
+        final Key[] keys;       // leaf: the keys; internal: keys[i] separates children i and i + 1
+        final Value[] vals;     // leaf only
+        final Node[] children;  // internal only; one spare slot to split from
+        final int[] counts;     // internal only: counts[i] = number of keys under children[i]
+        Node next;              // leaf only: the next leaf to the right
+
+        @SuppressWarnings("unchecked")
+        Node(boolean leaf) {
+            keys = (Key[]) new Comparable[M];
+            if (leaf) {
+                vals = (Value[]) new Object[M];
+                children = null;
+                counts = null;
+            } else {
+                vals = null;
+                children = (Node[]) new BPlusTreeST.Node[M + 1];
+                counts = new int[M + 1];
+            }
+        }
+
+        boolean isLeaf() {
+            return children == null;
+        }
+    }
+
+    public BPlusTreeST() {
+        root = new Node(true);
+    }
+
+    public int size() {
+        return n;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the height of the tree; a tree that is a single leaf has height 0.
+     */
+    public int height() {
+        int h = 0;
+        for (Node x = root; !x.isLeaf(); x = x.children[0]) {
+            h++;
+        }
+        return h;
+    }
+
+    private int size(Node x) {
+        if (x.isLeaf()) return x.n;
+        int size = 0;
+        for (int i = 0; i < x.n; i++) {
+            size += x.counts[i];
+        }
+        return size;
+    }
+
+    // number of keys in keys[0, n) less than key
+    private static <Key extends Comparable<Key>> int lowerBound(Key[] keys, int n, Key key) {
+        int lo = 0, hi = n;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (keys[mid].compareTo(key) < 0) lo = mid + 1;
+            else                              hi = mid;
+        }
+        return lo;
+    }
+
+    // number of keys in keys[0, n) less than or equal to key
+    private static <Key extends Comparable<Key>> int upperBound(Key[] keys, int n, Key key) {
+        int lo = 0, hi = n;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (keys[mid].compareTo(key) <= 0) lo = mid + 1;
+            else                               hi = mid;
+        }
+        return lo;
+    }
+
+    // index of the child of internal node x whose subtree may contain key
+    private int child(Node x, Key key) {
+        return upperBound(x.keys, x.n - 1, key);
+    }
+
+    private Node leaf(Key key) {
+        Node x = root;
+        while (!x.isLeaf()) {
+            x = x.children[child(x, key)];
+        }
+        return x;
+    }
+
+    public boolean contains(Key key) {
+        if (key == null)
+            throw new NullPointerException("argument to contains() is null");
+        return get(key) != null;
+    }
+
+    public Value get(Key key) {
+        if (key == null)
+            throw new NullPointerException("argument to get() is null");
+        Node x = leaf(key);
+        int i = lowerBound(x.keys, x.n, key);
+        if (i < x.n && x.keys[i].compareTo(key) == 0)
+            return x.vals[i];
+        return null;
+    }
+
+    /**
+     * Returns the number of keys in this symbol table strictly less than {@code key}.
+     */
+    public int rank(Key key) {
+        if (key == null)
+            throw new NullPointerException("argument to rank() is null");
+        int rank = 0;
+        Node x = root;
+        while (!x.isLeaf()) {
+            int i = child(x, key);
+            for (int j = 0; j < i; j++) {
+                rank += x.counts[j];
+            }
+            x = x.children[i];
+        }
+        return rank + lowerBound(x.keys, x.n, key);
+    }
+
+    public Key select(int k) {
+        if (k < 0 || k >= n) {
+            return null;
+        }
+        Node x = root;
+        while (!x.isLeaf()) {
+            int i = 0;
+            while (k >= x.counts[i]) {
+                k -= x.counts[i++];
+            }
+            x = x.children[i];
+        }
+        return x.keys[k];
+    }
+
+    public void put(Key key, Value val) {
+        if (key == null)
+            throw new NullPointerException("argument to put() is null");
+
+        if (val == null) {
+            delete(key);
+            return;
+        }
+
+        Node sibling = insert(root, key, val, true);
+        if (changed) n++;
+        if (sibling != null) {
+            Node x = new Node(false);
+            x.children[0] = root;
+            x.children[1] = sibling;
+            x.keys[0] = promoted;
+            x.counts[1] = size(sibling);
+            x.counts[0] = n - x.counts[1];
+            x.n = 2;
+            root = x;
+        }
+    }
+
+    // Puts the pair into the subtree rooted at x. If x has to split, returns
+    // the new right sibling, with the separator between them in promoted.
+    // rightmost tells whether x is on the right spine of the tree.
+    private Node insert(Node x, Key key, Value val, boolean rightmost) {
+        if (x.isLeaf()) {
+            int i = lowerBound(x.keys, x.n, key);
+            if (i < x.n && x.keys[i].compareTo(key) == 0) {
+                x.vals[i] = val;
+                changed = false;
+                return null;
+            }
+            changed = true;
+            if (x.n < M) {
+                insert(x, i, key, val);
+                return null;
+            }
+
+            // keep the first h keys, move the rest to a new leaf
+            int h = rightmost && i == M ? M : M / 2;
+            Node right = new Node(true);
+            right.n = M - h;
+            System.arraycopy(x.keys, h, right.keys, 0, right.n);
+            System.arraycopy(x.vals, h, right.vals, 0, right.n);
+            Arrays.fill(x.keys, h, M, null);
+            Arrays.fill(x.vals, h, M, null);
+            x.n = h;
+            right.next = x.next;
+            x.next = right;
+            if (i < h) insert(x, i, key, val);
+            else       insert(right, i - h, key, val);
+            promoted = right.keys[0];
+            return right;
+        }
+
+        int i = child(x, key);
+        Node sibling = insert(x.children[i], key, val, rightmost && i == x.n - 1);
+        if (changed) x.counts[i]++;
+        if (sibling == null) return null;
+
+        // add the sibling as child i + 1
+        int count = size(sibling);
+        x.counts[i] -= count;
+        System.arraycopy(x.children, i + 1, x.children, i + 2, x.n - i - 1);
+        System.arraycopy(x.counts, i + 1, x.counts, i + 2, x.n - i - 1);
+        System.arraycopy(x.keys, i, x.keys, i + 1, x.n - i - 1);
+        x.children[i + 1] = sibling;
+        x.counts[i + 1] = count;
+        x.keys[i] = promoted;
+        x.n++;
+        if (x.n <= M) return null;
+
+        // keep the first h of the M + 1 children, move the rest to a new node
+        int h = rightmost && i + 1 == M ? M - 1 : (M + 1) / 2;
+        Node right = new Node(false);
+        right.n = x.n - h;
+        System.arraycopy(x.children, h, right.children, 0, right.n);
+        System.arraycopy(x.counts, h, right.counts, 0, right.n);
+        System.arraycopy(x.keys, h, right.keys, 0, right.n - 1);
+        promoted = x.keys[h - 1];
+        Arrays.fill(x.children, h, x.n, null);
+        Arrays.fill(x.counts, h, x.n, 0);
+        Arrays.fill(x.keys, h - 1, x.n - 1, null);
+        x.n = h;
+        return right;
+    }
+
+    // inserts the pair at index i of a leaf that is not full
+    private void insert(Node x, int i, Key key, Value val) {
+        System.arraycopy(x.keys, i, x.keys, i + 1, x.n - i);
+        System.arraycopy(x.vals, i, x.vals, i + 1, x.n - i);
+        x.keys[i] = key;
+        x.vals[i] = val;
+        x.n++;
+    }
+
+    public void delete(Key key) {
+        if (key == null)
+            throw new NullPointerException("argument to delete() is null");
+        if (!remove(root, key))
+            return;
+        n--;
+        if (!root.isLeaf() && root.n == 1)
+            root = root.children[0];
+    }
+
+    // Removes key from the subtree rooted at x, returning whether it was there.
+    private boolean remove(Node x, Key key) {
+        if (x.isLeaf()) {
+            int i = lowerBound(x.keys, x.n, key);
+            if (i == x.n || x.keys[i].compareTo(key) != 0)
+                return false;
+            System.arraycopy(x.keys, i + 1, x.keys, i, x.n - i - 1);
+            System.arraycopy(x.vals, i + 1, x.vals, i, x.n - i - 1);
+            x.n--;
+            x.keys[x.n] = null;
+            x.vals[x.n] = null;
+            return true;
+        }
+
+        int i = child(x, key);
+        Node child = x.children[i];
+        if (!remove(child, key))
+            return false;
+        x.counts[i]--;
+        if (child.n < MIN)
+            rebalance(x, i);
+        return true;
+    }
+
+    // Refills child i of x, which is less than half full, from a neighbour:
+    // merges the two if they fit in one node, else evens out their sizes.
+    // Internal nodes always have at least two children, so a neighbour exists.
+    private void rebalance(Node x, int i) {
+        int l = i > 0 ? i - 1 : i;
+        Node left = x.children[l];
+        Node right = x.children[l + 1];
+        if (left.n + right.n <= M)
+            merge(x, l);
+        else if (left.n < right.n)
+            moveLeft(x, l, (right.n - left.n) / 2);
+        else
+            moveRight(x, l, (left.n - right.n) / 2);
+    }
+
+    // merges child l + 1 of x into child l
+    private void merge(Node x, int l) {
+        Node left = x.children[l];
+        Node right = x.children[l + 1];
+        if (left.isLeaf()) {
+            System.arraycopy(right.keys, 0, left.keys, left.n, right.n);
+            System.arraycopy(right.vals, 0, left.vals, left.n, right.n);
+            left.next = right.next;
+        } else {
+            left.keys[left.n - 1] = x.keys[l];
+            System.arraycopy(right.keys, 0, left.keys, left.n, right.n - 1);
+            System.arraycopy(right.children, 0, left.children, left.n, right.n);
+            System.arraycopy(right.counts, 0, left.counts, left.n, right.n);
+        }
+        left.n += right.n;
+
+        x.counts[l] += x.counts[l + 1];
+        System.arraycopy(x.children, l + 2, x.children, l + 1, x.n - l - 2);
+        System.arraycopy(x.counts, l + 2, x.counts, l + 1, x.n - l - 2);
+        System.arraycopy(x.keys, l + 1, x.keys, l, x.n - l - 2);
+        x.n--;
+        x.children[x.n] = null;
+        x.counts[x.n] = 0;
+        x.keys[x.n - 1] = null;
+    }
+
+    // moves the first k entries of child l + 1 of x to the end of child l
+    private void moveLeft(Node x, int l, int k) {
+        Node left = x.children[l];
+        Node right = x.children[l + 1];
+        int moved;
+        if (left.isLeaf()) {
+            System.arraycopy(right.keys, 0, left.keys, left.n, k);
+            System.arraycopy(right.vals, 0, left.vals, left.n, k);
+            System.arraycopy(right.keys, k, right.keys, 0, right.n - k);
+            System.arraycopy(right.vals, k, right.vals, 0, right.n - k);
+            Arrays.fill(right.keys, right.n - k, right.n, null);
+            Arrays.fill(right.vals, right.n - k, right.n, null);
+            x.keys[l] = right.keys[0];
+            moved = k;
+        } else {
+            left.keys[left.n - 1] = x.keys[l];
+            System.arraycopy(right.keys, 0, left.keys, left.n, k - 1);
+            System.arraycopy(right.children, 0, left.children, left.n, k);
+            System.arraycopy(right.counts, 0, left.counts, left.n, k);
+            x.keys[l] = right.keys[k - 1];
+            moved = 0;
+            for (int j = 0; j < k; j++) {
+                moved += right.counts[j];
+            }
+            System.arraycopy(right.keys, k, right.keys, 0, right.n - 1 - k);
+            System.arraycopy(right.children, k, right.children, 0, right.n - k);
+            System.arraycopy(right.counts, k, right.counts, 0, right.n - k);
+            Arrays.fill(right.keys, right.n - 1 - k, right.n - 1, null);
+            Arrays.fill(right.children, right.n - k, right.n, null);
+            Arrays.fill(right.counts, right.n - k, right.n, 0);
+        }
+        left.n += k;
+        right.n -= k;
+        x.counts[l] += moved;
+        x.counts[l + 1] -= moved;
+    }
+
+    // moves the last k entries of child l of x to the front of child l + 1
+    private void moveRight(Node x, int l, int k) {
+        Node left = x.children[l];
+        Node right = x.children[l + 1];
+        int moved;
+        if (left.isLeaf()) {
+            System.arraycopy(right.keys, 0, right.keys, k, right.n);
+            System.arraycopy(right.vals, 0, right.vals, k, right.n);
+            System.arraycopy(left.keys, left.n - k, right.keys, 0, k);
+            System.arraycopy(left.vals, left.n - k, right.vals, 0, k);
+            Arrays.fill(left.keys, left.n - k, left.n, null);
+            Arrays.fill(left.vals, left.n - k, left.n, null);
+            x.keys[l] = right.keys[0];
+            moved = k;
+        } else {
+            System.arraycopy(right.keys, 0, right.keys, k, right.n - 1);
+            System.arraycopy(right.children, 0, right.children, k, right.n);
+            System.arraycopy(right.counts, 0, right.counts, k, right.n);
+            right.keys[k - 1] = x.keys[l];
+            System.arraycopy(left.keys, left.n - k, right.keys, 0, k - 1);
+            System.arraycopy(left.children, left.n - k, right.children, 0, k);
+            System.arraycopy(left.counts, left.n - k, right.counts, 0, k);
+            x.keys[l] = left.keys[left.n - k - 1];
+            moved = 0;
+            for (int j = 0; j < k; j++) {
+                moved += right.counts[j];
+            }
+            Arrays.fill(left.keys, left.n - k - 1, left.n - 1, null);
+            Arrays.fill(left.children, left.n - k, left.n, null);
+            Arrays.fill(left.counts, left.n - k, left.n, 0);
+        }
+        left.n -= k;
+        right.n += k;
+        x.counts[l] -= moved;
+        x.counts[l + 1] += moved;
+    }
+
+    public void deleteMin() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Symbol table underflow error");
+        }
+        delete(min());
+    }
+
+    public void deleteMax() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Symbol table underflow error");
+        }
+        delete(max());
+    }
+
+    public Key min() {
+        if (isEmpty()) {
+            return null;
+        }
+        Node x = root;
+        while (!x.isLeaf()) {
+            x = x.children[0];
+        }
+        return x.keys[0];
+    }
+
+    public Key max() {
+        if (isEmpty()) {
+            return null;
+        }
+        Node x = root;
+        while (!x.isLeaf()) {
+            x = x.children[x.n - 1];
+        }
+        return x.keys[x.n - 1];
+    }
+
+    /**
+     * Returns the largest key in this symbol table less than or equal to {@code key}.
+     */
+    public Key floor(Key key) {
+        if (key == null) {
+            throw new NullPointerException("argument to floor() is null");
+        }
+        // the floor is in the leaf for key or, failing that, it is the
+        // largest key of the nearest subtree to the left of the search path
+        Node left = null;
+        Node x = root;
+        while (!x.isLeaf()) {
+            int i = child(x, key);
+            if (i > 0) left = x.children[i - 1];
+            x = x.children[i];
+        }
+        int i = upperBound(x.keys, x.n, key);
+        if (i > 0) {
+            return x.keys[i - 1];
+        }
+        if (left == null) {
+            return null;
+        }
+        while (!left.isLeaf()) {
+            left = left.children[left.n - 1];
+        }
+        return left.keys[left.n - 1];
+    }
+
+    /**
+     * Returns the smallest key in this symbol table greater than or equal to {@code key}.
+     */
+    public Key ceiling(Key key) {
+        if (key == null) {
+            throw new NullPointerException("argument to ceiling() is null");
+        }
+        Node x = leaf(key);
+        int i = lowerBound(x.keys, x.n, key);
+        if (i < x.n) {
+            return x.keys[i];
+        }
+        if (x.next == null) {
+            return null;
+        }
+        return x.next.keys[0];
+    }
+
+    /**
+     * Returns the number of keys in this symbol table in the specified range.
+     */
+    public int size(Key lo, Key hi) {
+        if (lo == null) {
+            throw new NullPointerException("first argument to size() is null");
+        }
+        if (hi == null) {
+            throw new NullPointerException("second argument to size() is null");
+        }
+
+        if (lo.compareTo(hi) > 0) {
+            return 0;
+        }
+
+        if (contains(hi)) {
+            return rank(hi) - rank(lo) + 1;
+        } else {
+            return rank(hi) - rank(lo);
+        }
+    }
+
+    public Iterable<Key> keys() {
+        if (isEmpty()) {
+            return new Queue<Key>();
+        }
+        return keys(min(), max());
+    }
+
+    /**
+     * Returns the keys between {@code lo} and {@code hi}, inclusive, found by
+     * one descent to the leaf of {@code lo} and a walk along the leaf list.
+     */
+    public Iterable<Key> keys(Key lo, Key hi) {
+        if (lo == null) {
+            throw new NullPointerException("first argument to keys() is null");
+        }
+        if (hi == null) {
+            throw new NullPointerException("second argument to keys() is null");
+        }
+
+        Queue<Key> queue = new Queue<Key>();
+        if (lo.compareTo(hi) > 0) {
+            return queue;
+        }
+        Node x = leaf(lo);
+        for (int i = lowerBound(x.keys, x.n, lo); x != null; x = x.next, i = 0) {
+            for (; i < x.n; i++) {
+                if (x.keys[i].compareTo(hi) > 0) {
+                    return queue;
+                }
+                queue.enqueue(x.keys[i]);
+            }
+        }
+        return queue;
+    }
+
+    public boolean check() {
+        return isBalanced() && isSorted() && countCheck() && rankCheck();
+    }
+
+    // every leaf at the same depth, every non-root internal node with two or more children
+    private boolean isBalanced() {
+        return isBalanced(root, height());
+    }
+
+    private boolean isBalanced(Node x, int h) {
+        if (x.isLeaf()) {
+            return h == 0 && (x.n > 0 || x == root);
+        }
+        if (x.n < 2) {
+            return false;
+        }
+        for (int i = 0; i < x.n; i++) {
+            if (!isBalanced(x.children[i], h - 1)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // keys ascending along the leaf list, and as many as size() says
+    private boolean isSorted() {
+        Node x = root;
+        while (!x.isLeaf()) {
+            x = x.children[0];
+        }
+        int count = 0;
+        Key last = null;
+        for (; x != null; x = x.next) {
+            for (int i = 0; i < x.n; i++) {
+                if (last != null && x.keys[i].compareTo(last) <= 0) {
+                    return false;
+                }
+                last = x.keys[i];
+                count++;
+            }
+        }
+        return count == n;
+    }
+
+    private boolean countCheck() {
+        return countCheck(root);
+    }
+
+    private boolean countCheck(Node x) {
+        if (x.isLeaf()) {
+            return true;
+        }
+        for (int i = 0; i < x.n; i++) {
+            if (x.counts[i] != size(x.children[i]) || !countCheck(x.children[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean rankCheck() {
+        for (int i = 0; i < size(); i++) {
+            if (i != rank(select(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static void main(String[] args) {
+        BPlusTreeST<String, Integer> st = new BPlusTreeST<>();
+        for (int i = 0; !StdIn.isEmpty(); i++) {
+            String key = StdIn.readString();
+            st.put(key, i);
+        }
+        for (String s : st.keys()) {
+            StdOut.println(s + " " + st.get(s));
+        }
+    }
+}
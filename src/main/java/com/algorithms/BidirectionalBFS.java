@@ -0,0 +1,156 @@
+package com.algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Shortest paths between pairs of vertices of a {@link CSRGraph}, by
+ * breadth-first search from both ends at once. Each step expands a whole
+ * level of whichever frontier is smaller, and the search stops after the
+ * level in which the two sides meet, so on graphs with a small diameter it
+ * visits a small fraction of the vertices that {@link BreadthFirstPaths}
+ * would.
+ * <p>
+ * The arrays are sized to the graph once and reused by every search. A vertex
+ * is marked by stamping it with the number of the current search, so nothing
+ * is cleared between searches and a search costs time proportional to the
+ * vertices it visits, not to V. An instance is not thread-safe; use one per
+ * thread.
+ */
+public class BidirectionalBFS {
+    private final CSRGraph G;
+    private final int[] stamp;   // 2 * search if reached from s, 2 * search + 1 if from t
+    private final int[] parent;  // next vertex toward s or t, whichever reached it
+    private final int[] dist;    // distance from s or t, whichever reached it
+    private final int[] queue;   // forward queue grows up from 0, backward down from V - 1
+    private int search;
+
+    public BidirectionalBFS(CSRGraph G) {
+        this.G = G;
+        stamp = new int[G.V()];
+        parent = new int[G.V()];
+        dist = new int[G.V()];
+        queue = new int[G.V()];
+    }
+
+    private void validateVertex(int v) {
+        if (v < 0 || v >= G.V()) {
+            throw new IndexOutOfBoundsException("vertex " + v + " is not between 0 and " + (G.V() - 1));
+        }
+    }
+
+    /**
+     * Returns a shortest path from {@code s} to {@code t}, iterating from
+     * {@code s} to {@code t}, or {@code null} if they are not connected.
+     */
+    public IntStack path(int s, int t) {
+        validateVertex(s);
+        validateVertex(t);
+        if (++search == 1 << 30) {
+            Arrays.fill(stamp, 0);
+            search = 1;
+        }
+        int forward = 2 * search;
+        int backward = forward + 1;
+        IntStack path = new IntStack();
+        if (s == t) {
+            path.push(s);
+            return path;
+        }
+
+        stamp[s] = forward;
+        dist[s] = 0;
+        parent[s] = -1;
+        stamp[t] = backward;
+        dist[t] = 0;
+        parent[t] = -1;
+        int fHead = 0;              // forward queue is queue[fHead..fTail)
+        int fTail = 0;
+        int bHead = G.V() - 1;      // backward queue is queue(bTail..bHead]
+        int bTail = G.V() - 1;
+        queue[fTail++] = s;
+        queue[bTail--] = t;
+
+        // the shortest meeting edge found so far, from the s side to the t side
+        int best = Integer.MAX_VALUE;
+        int meetS = -1;
+        int meetT = -1;
+        while (best == Integer.MAX_VALUE && fHead < fTail && bHead > bTail) {
+            if (fTail - fHead <= bHead - bTail) {
+                for (int end = fTail; fHead < end; ) {
+                    int v = queue[fHead++];
+                    for (int i = G.begin(v); i < G.end(v); i++) {
+                        int w = G.target(i);
+                        if (stamp[w] == forward) continue;
+                        if (stamp[w] == backward) {
+                            if (dist[v] + 1 + dist[w] < best) {
+                                best = dist[v] + 1 + dist[w];
+                                meetS = v;
+                                meetT = w;
+                            }
+                            continue;
+                        }
+                        stamp[w] = forward;
+                        parent[w] = v;
+                        dist[w] = dist[v] + 1;
+                        queue[fTail++] = w;
+                    }
+                }
+            }
+            else {
+                for (int end = bTail; bHead > end; ) {
+                    int v = queue[bHead--];
+                    for (int i = G.begin(v); i < G.end(v); i++) {
+                        int w = G.target(i);
+                        if (stamp[w] == backward) continue;
+                        if (stamp[w] == forward) {
+                            if (dist[w] + 1 + dist[v] < best) {
+                                best = dist[w] + 1 + dist[v];
+                                meetS = w;
+                                meetT = v;
+                            }
+                            continue;
+                        }
+                        stamp[w] = backward;
+                        parent[w] = v;
+                        dist[w] = dist[v] + 1;
+                        queue[bTail--] = w;
+                    }
+                }
+            }
+        }
+        if (best == Integer.MAX_VALUE) return null;
+
+        // push t first and s last, so the path iterates from s
+        IntStack toT = new IntStack();
+        for (int x = meetT; x != -1; x = parent[x]) {
+            toT.push(x);
+        }
+        while (!toT.isEmpty()) {
+            path.push(toT.pop());
+        }
+        for (int x = meetS; x != -1; x = parent[x]) {
+            path.push(x);
+        }
+        return path;
+    }
+
+    public static void main(String[] args) {
+        CSRGraph G = new CSRGraph(new In(args[0]));
+        BidirectionalBFS search = new BidirectionalBFS(G);
+        while (!StdIn.isEmpty()) {
+            int s = StdIn.readInt();
+            int t = StdIn.readInt();
+            IntStack path = search.path(s, t);
+            if (path == null) {
+                StdOut.println(s + " to " + t + ": not connected");
+                continue;
+            }
+            StdOut.print(s + " to " + t + " (" + (path.size() - 1) + "): ");
+            for (int x : path) {
+                if (x == s) StdOut.print(x);
+                else        StdOut.print("-" + x);
+            }
+            StdOut.println();
+        }
+    }
+}
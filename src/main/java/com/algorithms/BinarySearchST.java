@@ -17,6 +17,21 @@ public class BinarySearchST<Key extends Comparable<Key>, Value> {
         vals = (Value[]) new Object[capacity];
     }
 
+    /**
+     * Initializes a symbol table holding the pairs {@code keys[i]}, {@code vals[i]},
+     * in O(n log n) time instead of the O(n^2) of n calls to {@code put}.
+     * The result is the same as putting the pairs in order: a later pair
+     * overrides an earlier one with an equal key, and a {@code null} value
+     * leaves its key out.
+     *
+     * @throws IllegalArgumentException if the arrays differ in length
+     * @throws NullPointerException if any key is {@code null}
+     */
+    public BinarySearchST(Key[] keys, Value[] vals) {
+        this(INIT_CAPACITY);
+        putAll(keys, vals);
+    }
+
     private void resize(int capacity) {
         assert capacity >= n;
         Key[] tempk = (Key[]) new Comparable[capacity];
@@ -106,6 +121,94 @@ public class BinarySearchST<Key extends Comparable<Key>, Value> {
         assert  check();
     }
 
+    /**
+     * Puts the pairs {@code newKeys[i]}, {@code newVals[i]} into this symbol
+     * table, with the same result as calling {@code put} on each pair in
+     * order. The batch is sorted (a batch already in order is only checked),
+     * then merged with the table in one linear pass, so a batch of b pairs
+     * costs O(b log b + n) instead of O(b n).
+     *
+     * @throws IllegalArgumentException if the arrays differ in length
+     * @throws NullPointerException if any key is {@code null}
+     */
+    public void putAll(Key[] newKeys, Value[] newVals) {
+        if (newKeys.length != newVals.length)
+            throw new IllegalArgumentException("key and value arrays differ in length");
+        int b = newKeys.length;
+        for (int j = 0; j < b; j++) {
+            if (newKeys[j] == null)
+                throw new NullPointerException("key in putAll() is null");
+        }
+
+        Key[] batchKeys = newKeys.clone();
+        Value[] batchVals = newVals.clone();
+        sort(batchKeys, batchVals, (Key[]) new Comparable[b], (Value[]) new Object[b], 0, b);
+
+        Key[] mergedKeys = (Key[]) new Comparable[Math.max(INIT_CAPACITY, n + b)];
+        Value[] mergedVals = (Value[]) new Object[mergedKeys.length];
+        int i = 0, j = 0, k = 0;
+        while (i < n || j < b) {
+            if (j == b) {
+                mergedKeys[k] = keys[i];
+                mergedVals[k++] = vals[i++];
+                continue;
+            }
+            // of equal keys in the batch, the last one put wins
+            while (j + 1 < b && batchKeys[j + 1].compareTo(batchKeys[j]) == 0)
+                j++;
+            int cmp = i == n ? 1 : keys[i].compareTo(batchKeys[j]);
+            if (cmp < 0) {
+                mergedKeys[k] = keys[i];
+                mergedVals[k++] = vals[i++];
+            } else {
+                if (cmp == 0)
+                    i++;
+                if (batchVals[j] != null) {
+                    mergedKeys[k] = batchKeys[j];
+                    mergedVals[k++] = batchVals[j];
+                }
+                j++;
+            }
+        }
+        keys = mergedKeys;
+        vals = mergedVals;
+        n = k;
+
+        // resize if 1/4 full, as delete() would have
+        if (n > 0 && n <= keys.length / 4) {
+            resize(2 * n);
+        }
+
+        assert check();
+    }
+
+    // stable merge sort of the pairs in k[lo, hi) and v[lo, hi) by key,
+    // skipping merges whose halves are already in order
+    private static <Key extends Comparable<Key>, Value> void sort(Key[] k, Value[] v, Key[] auxk, Value[] auxv,
+                                                                 int lo, int hi) {
+        if (hi - lo <= 1) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        sort(k, v, auxk, auxv, lo, mid);
+        sort(k, v, auxk, auxv, mid, hi);
+        if (k[mid - 1].compareTo(k[mid]) <= 0) {
+            return;
+        }
+        System.arraycopy(k, lo, auxk, lo, hi - lo);
+        System.arraycopy(v, lo, auxv, lo, hi - lo);
+        int i = lo, j = mid;
+        for (int x = lo; x < hi; x++) {
+            if (i == mid || (j < hi && auxk[j].compareTo(auxk[i]) < 0)) {
+                k[x] = auxk[j];
+                v[x] = auxv[j++];
+            } else {
+                k[x] = auxk[i];
+                v[x] = auxv[i++];
+            }
+        }
+    }
+
     public void delete(Key key) {
         if (key == null)
             throw new NullPointerException("argument to delete() is null");
@@ -227,6 +330,9 @@ public class BinarySearchST<Key extends Comparable<Key>, Value> {
     }
 
     public Iterable<Key> keys() {
+        if (isEmpty()) {
+            return new Queue<Key>();
+        }
         return keys(min(), max());
     }
 
@@ -0,0 +1,139 @@
+package com.algorithms;
+
+import java.util.stream.IntStream;
+
+/**
+ * Transitive closure over the strong-component condensation of a digraph.
+ * Reachability rows are packed {@code long[]} bitsets indexed by component,
+ * so memory is C²/8 bytes for C strong components instead of V² bytes.
+ * <p>
+ * {@link KosarajuSharirSCC} numbers components in reverse topological order,
+ * so every edge of the condensation goes from a higher id to a lower one.
+ * Rows are filled in waves: a component's wave is one more than the highest
+ * wave among its successors, and all rows in a wave are filled in parallel by
+ * OR-ing the (already complete) rows of their successors.
+ */
+public class BitsetTransitiveClosure {
+  private final int[] id; // id[v] = strong component containing v
+  private final long[][] rows; // rows[c] = components reachable from component c
+
+  public BitsetTransitiveClosure(Digraph G) {
+    KosarajuSharirSCC scc = new KosarajuSharirSCC(G);
+    int V = G.V();
+    int C = scc.count();
+    id = new int[V];
+    for (int v = 0; v < V; v++) {
+      id[v] = scc.id(v);
+    }
+
+    // condensation edges in compressed sparse row form (duplicates allowed)
+    int[] offsets = new int[C + 1];
+    for (int v = 0; v < V; v++) {
+      for (int w : G.adj(v)) {
+        if (id[v] != id[w]) offsets[id[v] + 1]++;
+      }
+    }
+    for (int c = 0; c < C; c++) {
+      offsets[c + 1] += offsets[c];
+    }
+    int[] targets = new int[offsets[C]];
+    int[] next = new int[C];
+    System.arraycopy(offsets, 0, next, 0, C);
+    for (int v = 0; v < V; v++) {
+      for (int w : G.adj(v)) {
+        if (id[v] != id[w]) targets[next[id[v]]++] = id[w];
+      }
+    }
+
+    // successors always have smaller ids, so one ascending pass assigns waves
+    int[] wave = new int[C];
+    int waves = 0;
+    for (int c = 0; c < C; c++) {
+      for (int i = offsets[c]; i < offsets[c + 1]; i++) {
+        wave[c] = Math.max(wave[c], wave[targets[i]] + 1);
+      }
+      waves = Math.max(waves, wave[c] + 1);
+    }
+    int[] waveStart = new int[waves + 1];
+    for (int c = 0; c < C; c++) {
+      waveStart[wave[c] + 1]++;
+    }
+    for (int k = 0; k < waves; k++) {
+      waveStart[k + 1] += waveStart[k];
+    }
+    int[] byWave = new int[C];
+    System.arraycopy(waveStart, 0, next, 0, waves);
+    for (int c = 0; c < C; c++) {
+      byWave[next[wave[c]]++] = c;
+    }
+
+    int words = (C + 63) >>> 6;
+    rows = new long[C][];
+    for (int k = 0; k < waves; k++) {
+      IntStream.range(waveStart[k], waveStart[k + 1])
+          .parallel()
+          .forEach(j -> fill(byWave[j], words, offsets, targets));
+    }
+  }
+
+  private void fill(int c, int words, int[] offsets, int[] targets) {
+    long[] row = new long[words];
+    row[c >>> 6] |= 1L << c;
+    for (int i = offsets[c]; i < offsets[c + 1]; i++) {
+      int d = targets[i];
+      // if d is already set, everything d reaches was merged with it
+      if ((row[d >>> 6] & (1L << d)) != 0) continue;
+      long[] other = rows[d];
+      for (int k = 0; k < words; k++) {
+        row[k] |= other[k];
+      }
+    }
+    rows[c] = row;
+  }
+
+  private void validateVertex(int v) {
+    int V = id.length;
+    if (v < 0 || v >= V) {
+      throw new IndexOutOfBoundsException("vertex " + v + " is not between 0 and " + (V - 1));
+    }
+  }
+
+  /**
+   * Is there a directed path from vertex {@code v} to vertex {@code w} in the digraph?
+   *
+   * @param v the source vertex
+   * @param w the target vertex
+   * @return {@code true} if there is a directed path from {@code v} to {@code w}, {@code false}
+   *     otherwise
+   */
+  public boolean reachable(int v, int w) {
+    validateVertex(v);
+    validateVertex(w);
+    int d = id[w];
+    return (rows[id[v]][d >>> 6] & (1L << d)) != 0;
+  }
+
+  public static void main(String[] args) {
+    In in = new In(args[0]);
+    Digraph G = new Digraph(in);
+
+    BitsetTransitiveClosure tc = new BitsetTransitiveClosure(G);
+
+    // print header
+    for (int v = 0; v < G.V(); v++) {
+      StdOut.printf("%3d", v);
+    }
+    StdOut.println();
+    StdOut.println("------------------------------------------");
+
+    // print transitive closure
+    for (int v = 0; v < G.V(); v++) {
+      StdOut.printf("%3d: ", v);
+      for (int w = 0; w < G.V(); w++) {
+        if (tc.reachable(v, w)) StdOut.printf(" T");
+        else                    StdOut.printf("  ");
+      }
+      StdOut.println();
+    }
+  }
+}
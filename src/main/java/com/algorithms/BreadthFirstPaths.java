@@ -1,29 +1,46 @@
 package com.algorithms;
 
-import java.util.Deque;
-import java.util.ArrayDeque;
+import java.util.Arrays;
 
 public class BreadthFirstPaths {
+    private static final int INFINITY = Integer.MAX_VALUE;
+
     private boolean[] marked;
     private int[] edgeTo;
+    private int[] distTo;
     private final int s;
 
     public BreadthFirstPaths(Graph G, int s) {
         marked = new boolean[G.V()];
         edgeTo = new int[G.V()];
+        distTo = new int[G.V()];
+        Arrays.fill(distTo, INFINITY);
+        this.s = s;
+        validateVertex(s);
+        bfs(G, s);
+    }
+
+    public BreadthFirstPaths(CSRGraph G, int s) {
+        marked = new boolean[G.V()];
+        edgeTo = new int[G.V()];
+        distTo = new int[G.V()];
+        Arrays.fill(distTo, INFINITY);
         this.s = s;
+        validateVertex(s);
         bfs(G, s);
     }
 
     private void bfs(Graph G, int s) {
-        Queue<Integer> queue = new Queue<>();
+        IntQueue queue = new IntQueue();
         marked[s] = true;
+        distTo[s] = 0;
         queue.enqueue(s);
         while (!queue.isEmpty()) {
             int v = queue.dequeue();
             for (int w : G.adj(v)) {
                 if (!marked[w]) {
                     edgeTo[w] = v;
+                    distTo[w] = distTo[v] + 1;
                     marked[w] = true;
                     queue.enqueue(w);
                 }
@@ -31,15 +48,62 @@ public class BreadthFirstPaths {
         }
     }
 
+    // every vertex is enqueued at most once, so a plain int array serves as the queue
+    private void bfs(CSRGraph G, int s) {
+        int[] queue = new int[G.V()];
+        int head = 0;
+        int tail = 0;
+        marked[s] = true;
+        distTo[s] = 0;
+        queue[tail++] = s;
+        while (head < tail) {
+            int v = queue[head++];
+            for (int i = G.begin(v); i < G.end(v); i++) {
+                int w = G.target(i);
+                if (!marked[w]) {
+                    edgeTo[w] = v;
+                    distTo[w] = distTo[v] + 1;
+                    marked[w] = true;
+                    queue[tail++] = w;
+                }
+            }
+        }
+    }
+
+    private void validateVertex(int v) {
+        int V = marked.length;
+        if (v < 0 || v >= V) {
+            throw new IndexOutOfBoundsException("vertex " + v + " is not between 0 and " + (V - 1));
+        }
+    }
+
     public boolean hasPathTo(int v) {
+        validateVertex(v);
         return marked[v];
     }
 
+    /**
+     * Returns the number of edges on a shortest path from the source to
+     * {@code v}, or {@code Integer.MAX_VALUE} if there is no such path.
+     */
+    public int distTo(int v) {
+        validateVertex(v);
+        return distTo[v];
+    }
+
     public Iterable<Integer> pathTo(int v) {
+        return pathToInts(v);
+    }
+
+    /**
+     * Returns the same path as {@link #pathTo}, as an {@link IntStack} whose
+     * vertices can be read with {@link IntStack#get} without boxing.
+     */
+    public IntStack pathToInts(int v) {
         if (!hasPathTo(v)) {
             return null;
         }
-        Deque<Integer> path = new ArrayDeque<>();
+        IntStack path = new IntStack();
         for (int x = v; x != s; x = edgeTo[x]) {
             path.push(x);
         }
@@ -54,7 +118,9 @@ public class BreadthFirstPaths {
         for (int v = 0; v < G.V(); v++) {
             StdOut.print(s + " to " + v + ": ");
             if (search.hasPathTo(v)) {
-                for (int x : search.pathTo(v)) {
+                IntStack path = search.pathToInts(v);
+                for (int i = 0; i < path.size(); i++) {
+                    int x = path.get(i);
                     if (x == s) {
                         StdOut.print(x);
                     } else {
@@ -15,6 +15,16 @@ public class CC {
             }
     }
 
+    public CC(CSRGraph G) {
+        marked = new boolean[G.V()];
+        id = new int[G.V()];
+        for (int s = 0; s < G.V(); s++)
+            if (!marked[s]) {
+                dfs(G, s);
+                count++;
+            }
+    }
+
     private void dfs(Graph G, int v) {
         marked[v] = true;
         id[v] = count;
@@ -23,6 +33,16 @@ public class CC {
                 dfs(G, w);
     }
 
+    private void dfs(CSRGraph G, int v) {
+        marked[v] = true;
+        id[v] = count;
+        for (int i = G.begin(v); i < G.end(v); i++) {
+            int w = G.target(i);
+            if (!marked[w])
+                dfs(G, w);
+        }
+    }
+
     public boolean connected(int v, int w) {
         return id[v] == id[w];
     }
@@ -0,0 +1,190 @@
+package com.algorithms;
+
+import java.util.InputMismatchException;
+import java.util.NoSuchElementException;
+
+/**
+ * Immutable digraph in compressed sparse row form. The vertices pointing from
+ * {@code v} are {@code target(i)} for {@code begin(v) <= i < end(v)}, listed in
+ * the same order that {@link Digraph#adj(int)} would return them.
+ */
+public class CSRDigraph {
+    private final int V;
+    private final int E;
+    private final int[] offsets;  // edges from v are targets[offsets[v]..offsets[v+1])
+    private final int[] targets;
+    private final int[] indegree;
+
+    public CSRDigraph(Digraph G) {
+        this.V = G.V();
+        this.E = G.E();
+        offsets = new int[V + 1];
+        indegree = new int[V];
+        for (int v = 0; v < V; v++) {
+            offsets[v + 1] = offsets[v] + G.outdegree(v);
+            indegree[v] = G.indegree(v);
+        }
+        targets = new int[E];
+        for (int v = 0; v < V; v++) {
+            int i = offsets[v];
+            for (int w : G.adj(v)) {
+                targets[i++] = w;
+            }
+        }
+    }
+
+    public CSRDigraph(In in) {
+        try {
+            this.V = in.readInt();
+            if (V < 0) {
+                throw new IllegalArgumentException("Number of vertices in a Digraph must be nonegative");
+            }
+            this.E = in.readInt();
+            if (E < 0) {
+                throw new IllegalArgumentException("Number of edges in a Digraph must be nonegative");
+            }
+            int[] from = new int[E];
+            int[] to = new int[E];
+            offsets = new int[V + 1];
+            indegree = new int[V];
+            for (int i = 0; i < E; i++) {
+                int v = in.readInt();
+                int w = in.readInt();
+                validateVertex(v);
+                validateVertex(w);
+                from[i] = v;
+                to[i] = w;
+                offsets[v + 1]++;
+                indegree[w]++;
+            }
+            for (int v = 0; v < V; v++) {
+                offsets[v + 1] += offsets[v];
+            }
+            targets = new int[E];
+            // fill each row from the back so the order matches Bag's LIFO order
+            int[] next = new int[V];
+            for (int v = 0; v < V; v++) {
+                next[v] = offsets[v + 1];
+            }
+            for (int i = 0; i < E; i++) {
+                targets[--next[from[i]]] = to[i];
+            }
+        } catch (NoSuchElementException e) {
+            throw new InputMismatchException("Invalid input format in CSRDigraph constructor");
+        }
+    }
+
+    CSRDigraph(int V, int[] offsets, int[] targets, int[] indegree) {
+        this.V = V;
+        this.E = targets.length;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.indegree = indegree;
+    }
+
+    /**
+     * Returns the digraph on {@code V} vertices with edges {@code from[i]->to[i]}
+     * for {@code 0 <= i < E}, in the order {@link Digraph#addEdge} would list them.
+     */
+    static CSRDigraph fromEdges(int V, int[] from, int[] to, int E) {
+        int[] offsets = new int[V + 1];
+        int[] indegree = new int[V];
+        for (int i = 0; i < E; i++) {
+            offsets[from[i] + 1]++;
+            indegree[to[i]]++;
+        }
+        for (int v = 0; v < V; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+        int[] targets = new int[E];
+        int[] next = new int[V];
+        for (int v = 0; v < V; v++) {
+            next[v] = offsets[v + 1];
+        }
+        for (int i = 0; i < E; i++) {
+            targets[--next[from[i]]] = to[i];
+        }
+        return new CSRDigraph(V, offsets, targets, indegree);
+    }
+
+    private void validateVertex(int v) {
+        if (v < 0 || v >= V) {
+            throw new IndexOutOfBoundsException("vertex " + v + " is not between 0 and " + (V - 1));
+        }
+    }
+
+    public int V() {
+        return V;
+    }
+
+    public int E() {
+        return E;
+    }
+
+    public int indegree(int v) {
+        validateVertex(v);
+        return indegree[v];
+    }
+
+    public int outdegree(int v) {
+        validateVertex(v);
+        return offsets[v + 1] - offsets[v];
+    }
+
+    /**
+     * Returns the index of the first edge leaving {@code v} in the target array.
+     */
+    public int begin(int v) {
+        return offsets[v];
+    }
+
+    /**
+     * Returns one past the index of the last edge leaving {@code v} in the target array.
+     */
+    public int end(int v) {
+        return offsets[v + 1];
+    }
+
+    /**
+     * Returns the head vertex of the edge stored at position {@code i} of the target array.
+     */
+    public int target(int i) {
+        return targets[i];
+    }
+
+    /**
+     * Returns the reverse of the digraph, built by a counting pass over the edges.
+     * Edges into each vertex appear in the same order as in {@link Digraph#reverse()}.
+     */
+    public CSRDigraph reverse() {
+        int[] roffsets = new int[V + 1];
+        int[] routdegree = new int[V];
+        for (int v = 0; v < V; v++) {
+            roffsets[v + 1] = roffsets[v] + indegree[v];
+            routdegree[v] = offsets[v + 1] - offsets[v];
+        }
+        int[] rtargets = new int[E];
+        int[] next = new int[V];
+        for (int v = 0; v < V; v++) {
+            next[v] = roffsets[v + 1];
+        }
+        for (int v = 0; v < V; v++) {
+            for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+                rtargets[--next[targets[i]]] = v;
+            }
+        }
+        return new CSRDigraph(V, roffsets, rtargets, routdegree);
+    }
+
+    public static void main(String[] args) {
+        CSRDigraph G = new CSRDigraph(new In(args[0]));
+        StdOut.println(G.V() + " vertices, " + G.E() + " edges");
+        for (int v = 0; v < G.V(); v++) {
+            StdOut.print(v + ": ");
+            for (int i = G.begin(v); i < G.end(v); i++) {
+                StdOut.print(G.target(i) + " ");
+            }
+            StdOut.println();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.algorithms;
+
+import java.util.InputMismatchException;
+import java.util.NoSuchElementException;
+
+/**
+ * Immutable undirected graph in compressed sparse row form. The neighbors of
+ * {@code v} are {@code target(i)} for {@code begin(v) <= i < end(v)}, listed in
+ * the same order that {@link Graph#adj(int)} would return them.
+ */
+public class CSRGraph {
+    private final int V;          // number of vertices
+    private final int E;          // number of edges
+    private final int[] offsets;  // neighbors of v are targets[offsets[v]..offsets[v+1])
+    private final int[] targets;  // concatenated adjacency lists, 2E entries
+
+    public CSRGraph(Graph G) {
+        this.V = G.V();
+        this.E = G.E();
+        offsets = new int[V + 1];
+        for (int v = 0; v < V; v++) {
+            int degree = 0;
+            for (int w : G.adj(v)) {
+                degree++;
+            }
+            offsets[v + 1] = offsets[v] + degree;
+        }
+        targets = new int[offsets[V]];
+        for (int v = 0; v < V; v++) {
+            int i = offsets[v];
+            for (int w : G.adj(v)) {
+                targets[i++] = w;
+            }
+        }
+    }
+
+    public CSRGraph(In in) {
+        try {
+            this.V = in.readInt();
+            if (V < 0) {
+                throw new IllegalArgumentException("Number of vertices in a Graph must be nonnegative");
+            }
+            this.E = in.readInt();
+            if (E < 0) {
+                throw new IllegalArgumentException("Number of edges in a Graph must be nonnegative");
+            }
+            int[] edges = new int[2 * E];
+            offsets = new int[V + 1];
+            for (int i = 0; i < 2 * E; i += 2) {
+                int v = in.readInt();
+                int w = in.readInt();
+                validateVertex(v);
+                validateVertex(w);
+                edges[i] = v;
+                edges[i + 1] = w;
+                offsets[v + 1]++;
+                offsets[w + 1]++;
+            }
+            for (int v = 0; v < V; v++) {
+                offsets[v + 1] += offsets[v];
+            }
+            targets = new int[2 * E];
+            // fill each row from the back so the order matches Bag's LIFO order
+            int[] next = new int[V];
+            for (int v = 0; v < V; v++) {
+                next[v] = offsets[v + 1];
+            }
+            for (int i = 0; i < 2 * E; i += 2) {
+                int v = edges[i];
+                int w = edges[i + 1];
+                targets[--next[v]] = w;
+                targets[--next[w]] = v;
+            }
+        } catch (NoSuchElementException e) {
+            throw new InputMismatchException("Invalid input format in CSRGraph constructor");
+        }
+    }
+
+    CSRGraph(int V, int E, int[] offsets, int[] targets) {
+        this.V = V;
+        this.E = E;
+        this.offsets = offsets;
+        this.targets = targets;
+    }
+
+    /**
+     * Returns the graph on {@code V} vertices with edges {@code from[i]-to[i]}
+     * for {@code 0 <= i < E}, in the order {@link Graph#addEdge} would list them.
+     */
+    static CSRGraph fromEdges(int V, int[] from, int[] to, int E) {
+        int[] offsets = new int[V + 1];
+        for (int i = 0; i < E; i++) {
+            offsets[from[i] + 1]++;
+            offsets[to[i] + 1]++;
+        }
+        for (int v = 0; v < V; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+        int[] targets = new int[2 * E];
+        int[] next = new int[V];
+        for (int v = 0; v < V; v++) {
+            next[v] = offsets[v + 1];
+        }
+        for (int i = 0; i < E; i++) {
+            targets[--next[from[i]]] = to[i];
+            targets[--next[to[i]]] = from[i];
+        }
+        return new CSRGraph(V, E, offsets, targets);
+    }
+
+    private void validateVertex(int v) {
+        if (v < 0 || v >= V) {
+            throw new IndexOutOfBoundsException("vertex " + v + " is not between 0 and " + (V - 1));
+        }
+    }
+
+    public int V() {
+        return V;
+    }
+
+    public int E() {
+        return E;
+    }
+
+    public int degree(int v) {
+        validateVertex(v);
+        return offsets[v + 1] - offsets[v];
+    }
+
+    /**
+     * Returns the index of the first neighbor of {@code v} in the target array.
+     */
+    public int begin(int v) {
+        return offsets[v];
+    }
+
+    /**
+     * Returns one past the index of the last neighbor of {@code v} in the target array.
+     */
+    public int end(int v) {
+        return offsets[v + 1];
+    }
+
+    /**
+     * Returns the vertex stored at position {@code i} of the target array.
+     */
+    public int target(int i) {
+        return targets[i];
+    }
+
+    public static void main(String[] args) {
+        CSRGraph G = new CSRGraph(new In(args[0]));
+        StdOut.println(G.V() + " vertices, " + G.E() + " edges");
+        for (int v = 0; v < G.V(); v++) {
+            StdOut.print(v + ": ");
+            for (int i = G.begin(v); i < G.end(v); i++) {
+                StdOut.print(G.target(i) + " ");
+            }
+            StdOut.println();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.algorithms;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe ordered symbol table, the concurrent counterpart of {@link ST}.
+ * It wraps the lock-free skip list {@link ConcurrentSkipListMap} as {@code ST}
+ * wraps a {@code TreeMap}, so no caller needs a global lock.
+ * <p>
+ * {@code get}, {@code put}, {@code delete} and {@code contains} are atomic
+ * and linearizable. {@code min}, {@code max}, {@code floor} and
+ * {@code ceiling} each return a key that was present at some moment during
+ * the call. {@code keys} are weakly consistent: iteration never throws
+ * {@code ConcurrentModificationException}, sees every key present for the
+ * whole iteration, and may or may not see keys put or deleted meanwhile.
+ * {@code size} is kept in a counter, so it takes constant time, and it is
+ * exact whenever no update is in progress.
+ */
+public class ConcurrentST<Key extends Comparable<Key>, Value> implements Iterable<Key> {
+    private final ConcurrentSkipListMap<Key, Value> st;
+    private final LongAdder n;
+
+    public ConcurrentST() {
+        st = new ConcurrentSkipListMap<Key, Value>();
+        n = new LongAdder();
+    }
+
+    public Value get(Key key) {
+        if (key == null)
+            throw new NullPointerException("called get() with null key");
+        return st.get(key);
+    }
+
+    public void put(Key key, Value val) {
+        if (key == null)
+            throw new NullPointerException("called put() with null key");
+        if (val == null)
+            delete(key);
+        else if (st.put(key, val) == null)
+            n.increment();
+    }
+
+    public void delete(Key key) {
+        if (key == null)
+            throw new NullPointerException("called delete() with null key");
+        if (st.remove(key) != null)
+            n.decrement();
+    }
+
+    public boolean contains(Key key) {
+        if (key == null)
+            throw new NullPointerException("called contains() with null key");
+        return st.containsKey(key);
+    }
+
+    public int size() {
+        return (int) Math.max(0, n.sum());
+    }
+
+    public boolean isEmpty() {
+        return st.isEmpty();
+    }
+
+    /**
+     * Returns the keys as a read-only live view, iterated in ascending order.
+     * Keys can only be removed through {@link #delete}, which keeps the size.
+     */
+    public Iterable<Key> keys() {
+        return Collections.unmodifiableSet(st.keySet());
+    }
+
+    /**
+     * Returns the keys between {@code lo} and {@code hi}, inclusive, as a
+     * read-only live view that is iterated in ascending order.
+     */
+    public Iterable<Key> keys(Key lo, Key hi) {
+        if (lo == null)
+            throw new NullPointerException("first argument to keys() is null");
+        if (hi == null)
+            throw new NullPointerException("second argument to keys() is null");
+        if (lo.compareTo(hi) > 0)
+            return new Queue<Key>();
+        return Collections.unmodifiableSet(st.subMap(lo, true, hi, true).keySet());
+    }
+
+    public Iterator<Key> iterator() {
+        return keys().iterator();
+    }
+
+    // firstKey() and lastKey() can race with a concurrent delete, so use the
+    // entry methods, which return null instead of throwing
+    public Key min() {
+        Map.Entry<Key, Value> e = st.firstEntry();
+        if (e == null)
+            throw new NoSuchElementException("called min() with empty symbol table");
+        return e.getKey();
+    }
+
+    public Key max() {
+        Map.Entry<Key, Value> e = st.lastEntry();
+        if (e == null)
+            throw new NoSuchElementException("called max() with empty symbol table");
+        return e.getKey();
+    }
+
+    public Key ceiling(Key key) {
+        if (key == null)
+            throw new NullPointerException("called ceiling() with null key");
+        Key k = st.ceilingKey(key);
+        if (k == null)
+            throw new NoSuchElementException("all keys are less than " + key);
+        return k;
+    }
+
+    public Key floor(Key key) {
+        if (key == null)
+            throw new NullPointerException("called floor() with null key");
+        Key k = st.floorKey(key);
+        if (k == null)
+            throw new NoSuchElementException("all keys are greater than " + key);
+        return k;
+    }
+
+    public static void main(String[] args) {
+        ConcurrentST<String, Integer> st = new ConcurrentST<String, Integer>();
+        for (int i = 0; !StdIn.isEmpty(); i++) {
+            String key = StdIn.readString();
+            st.put(key, i);
+        }
+        for (String s : st.keys())
+            StdOut.println(s + " " + st.get(s));
+    }
+}
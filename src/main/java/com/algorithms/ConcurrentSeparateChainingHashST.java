@@ -0,0 +1,326 @@
+package com.algorithms;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread-safe separate-chaining hash table with lock striping and incremental
+ * resizing.
+ * <p>
+ * The number of chains is always a power of two and at least the number of
+ * lock stripes, so the stripe of a key depends only on its hash: it is the
+ * same in the old and the new table while a resize is in progress, and one
+ * lock guards the key wherever it currently lives. Every operation holds the
+ * lock of its key's stripe, so operations on keys of different stripes run in
+ * parallel.
+ * <p>
+ * A resize does not rehash the whole table at once. It allocates the new chain
+ * array, and from then on every {@code put} and {@code delete} moves a few old
+ * chains into it, until none are left. Meanwhile a lookup checks the old chain
+ * of its key, or the new one if that old chain has moved. The table doubles
+ * when chains average {@code GROW} keys and halves when they average one or
+ * fewer, so after either resize it is a factor of four away from the next one
+ * and a workload that alternates inserts and deletes does not thrash.
+ */
+public class ConcurrentSeparateChainingHashST<Key, Value> {
+    private static final int STRIPES = 64;          // number of locks, a power of 2
+    private static final int INIT_CAPACITY = STRIPES;
+    private static final int GROW = 8;              // double the chains at this average length
+    private static final int MIGRATE_STEP = 4;      // old chains moved per put or delete during a resize
+
+    private static final Node MOVED = new Node(0, null, null, null);   // marks an old chain as moved
+
+    private final ReentrantLock[] locks;
+    private final AtomicReference<Table> table;
+    private final AtomicInteger n;                  // number of key-value pairs
+
+    private static final class Node {
+        final int hash;
+        final Object key;
+        Object val;
+        Node next;
+
+        Node(int hash, Object key, Object val, Node next) {
+            this.hash = hash;
+            this.key = key;
+            this.val = val;
+            this.next = next;
+        }
+    }
+
+    // The chains, plus the chains of the previous size while a resize is in
+    // progress. Chains are read and written only under their stripe lock.
+    private static final class Table {
+        final Node[] chains;
+        final Node[] old;                                   // null if no resize is in progress
+        final AtomicInteger claimed = new AtomicInteger();  // old chains handed out to movers
+        final AtomicInteger moved = new AtomicInteger();    // old chains moved
+
+        Table(Node[] chains, Node[] old) {
+            this.chains = chains;
+            this.old = old;
+        }
+    }
+
+    /**
+     * Initializes an empty symbol table.
+     */
+    public ConcurrentSeparateChainingHashST() {
+        this(INIT_CAPACITY);
+    }
+
+    /**
+     * Initializes an empty symbol table with at least {@code m} chains.
+     * @param m the initial number of chains
+     */
+    public ConcurrentSeparateChainingHashST(int m) {
+        if (m < 0) throw new IllegalArgumentException("number of chains must be nonnegative");
+        int chains = Integer.highestOneBit(Math.max(INIT_CAPACITY, m) - 1) << 1;
+        locks = new ReentrantLock[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        table = new AtomicReference<>(new Table(new Node[chains], null));
+        n = new AtomicInteger();
+    }
+
+    // spreads the high bits of the hash code into the low bits used to pick a chain
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Returns the number of key-value pairs in this symbol table.
+     * @return the number of key-value pairs in this symbol table
+     */
+    public int size() {
+        return n.get();
+    }
+
+    /**
+     * Returns true if this symbol table is empty.
+     *
+     * @return {@code true} if this symbol table is empty;
+     *         {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns true if this symbol table contains the specified key.
+     *
+     * @param key the key
+     * @return {@code true} if this symbol table contains {@code key};
+     *         {@code false} otherwise
+     * @throws NullPointerException if {@code key} is {@code null}
+     */
+    public boolean contains(Key key) {
+        if (key == null) throw new NullPointerException("argument to contains() is null");
+        return get(key) != null;
+    }
+
+    // Returns the chain array that holds the key with hash h, the old one if
+    // the key's old chain has not moved yet; the key's chain in it is
+    // h & (length - 1). The caller holds the stripe lock of h.
+    private static Node[] chainsOf(Table t, int h) {
+        if (t.old != null && t.old[h & (t.old.length - 1)] != MOVED) return t.old;
+        return t.chains;
+    }
+
+    /**
+     * Returns the value associated with the specified key in this symbol table.
+     *
+     * @param key the key
+     * @return the value associated with {@code key} in the symbol table;
+     *         {@code null} if no such value
+     * @throws NullPointerException if {@code key} is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public Value get(Key key) {
+        if (key == null) throw new NullPointerException("argument to get() is null");
+        int h = hash(key);
+        ReentrantLock lock = locks[h & (STRIPES - 1)];
+        lock.lock();
+        try {
+            Node[] chains = chainsOf(table.get(), h);
+            int i = h & (chains.length - 1);
+            for (Node x = chains[i]; x != null; x = x.next) {
+                if (x.hash == h && key.equals(x.key)) return (Value) x.val;
+            }
+            return null;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Inserts the specified key-value pair into the symbol table, overwriting the old
+     * value with the new value if symbol table already contains the specified key.
+     * Deletes the specified key (and its associated value) from this symbol table
+     * if the specified value is {@code null}.
+     *
+     * @param key the key
+     * @param val the value
+     * @throws NullPointerException if {@code key} is {@code null}
+     */
+    public void put(Key key, Value val) {
+        if (key == null) throw new NullPointerException("first argument to put() is null");
+        if (val == null) {
+            delete(key);
+            return;
+        }
+
+        int h = hash(key);
+        boolean added = true;
+        ReentrantLock lock = locks[h & (STRIPES - 1)];
+        lock.lock();
+        try {
+            Node[] chains = chainsOf(table.get(), h);
+            int i = h & (chains.length - 1);
+            for (Node x = chains[i]; x != null; x = x.next) {
+                if (x.hash == h && key.equals(x.key)) {
+                    x.val = val;
+                    added = false;
+                    break;
+                }
+            }
+            if (added) chains[i] = new Node(h, key, val, chains[i]);
+        }
+        finally {
+            lock.unlock();
+        }
+
+        int size = added ? n.incrementAndGet() : n.get();
+        Table t = table.get();
+        if (t.old != null) migrate(t);
+        else if (size >= GROW * t.chains.length) startResize(t, 2 * t.chains.length);
+    }
+
+    /**
+     * Removes the specified key and its associated value from this symbol table
+     * (if the key is in the symbol table).
+     *
+     * @param key the key
+     * @throws NullPointerException if {@code key} is {@code null}
+     */
+    public void delete(Key key) {
+        if (key == null) throw new NullPointerException("argument to delete() is null");
+
+        int h = hash(key);
+        boolean removed = false;
+        ReentrantLock lock = locks[h & (STRIPES - 1)];
+        lock.lock();
+        try {
+            Node[] chains = chainsOf(table.get(), h);
+            int i = h & (chains.length - 1);
+            Node prev = null;
+            for (Node x = chains[i]; x != null; prev = x, x = x.next) {
+                if (x.hash == h && key.equals(x.key)) {
+                    if (prev == null) chains[i] = x.next;
+                    else              prev.next = x.next;
+                    removed = true;
+                    break;
+                }
+            }
+        }
+        finally {
+            lock.unlock();
+        }
+
+        int size = removed ? n.decrementAndGet() : n.get();
+        Table t = table.get();
+        if (t.old != null) migrate(t);
+        else if (t.chains.length > INIT_CAPACITY && size <= t.chains.length) startResize(t, t.chains.length / 2);
+    }
+
+    // Starts resizing t to the given number of chains, unless another thread
+    // has replaced t in the meantime.
+    private void startResize(Table t, int chains) {
+        if (table.compareAndSet(t, new Table(new Node[chains], t.chains))) {
+            migrate(table.get());
+        }
+    }
+
+    // Moves up to MIGRATE_STEP old chains of t into the new chains, and ends
+    // the resize once every old chain has moved.
+    private void migrate(Table t) {
+        for (int step = 0; step < MIGRATE_STEP; step++) {
+            int i = t.claimed.getAndIncrement();
+            if (i >= t.old.length) return;
+            ReentrantLock lock = locks[i & (STRIPES - 1)];
+            lock.lock();
+            try {
+                Node x = t.old[i];
+                while (x != null) {
+                    Node next = x.next;
+                    int j = x.hash & (t.chains.length - 1);
+                    x.next = t.chains[j];
+                    t.chains[j] = x;
+                    x = next;
+                }
+                t.old[i] = MOVED;
+            }
+            finally {
+                lock.unlock();
+            }
+            if (t.moved.incrementAndGet() == t.old.length) {
+                table.compareAndSet(t, new Table(t.chains, null));
+            }
+        }
+    }
+
+    /**
+     * Returns the keys in this symbol table. Each stripe is read under its
+     * lock, so the result holds every key that was in the table throughout
+     * the call, and may or may not hold keys put or deleted meanwhile.
+     *
+     * @return keys in symbol table as an Iterable
+     */
+    @SuppressWarnings("unchecked")
+    public Iterable<Key> keys() {
+        Queue<Key> queue = new Queue<>();
+        for (int s = 0; s < STRIPES; s++) {
+            locks[s].lock();
+            try {
+                Table t = table.get();
+                if (t.old != null) {
+                    for (int i = s; i < t.old.length; i += STRIPES) {
+                        if (t.old[i] == MOVED) continue;
+                        for (Node x = t.old[i]; x != null; x = x.next) {
+                            queue.enqueue((Key) x.key);
+                        }
+                    }
+                }
+                for (int i = s; i < t.chains.length; i += STRIPES) {
+                    for (Node x = t.chains[i]; x != null; x = x.next) {
+                        queue.enqueue((Key) x.key);
+                    }
+                }
+            }
+            finally {
+                locks[s].unlock();
+            }
+        }
+        return queue;
+    }
+
+    /**
+     * Unit tests the {@code ConcurrentSeparateChainingHashST} data type.
+     *
+     * @param args the command-line arguments
+     */
+    public static void main(String[] args) {
+        ConcurrentSeparateChainingHashST<String, Integer> st = new ConcurrentSeparateChainingHashST<>();
+        for (int i = 0; !StdIn.isEmpty(); i++) {
+            String key = StdIn.readString();
+            st.put(key, i);
+        }
+
+        for (String s : st.keys())
+            StdOut.println(s + " " + st.get(s));
+    }
+}
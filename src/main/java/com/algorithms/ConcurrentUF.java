@@ -0,0 +1,190 @@
+package com.algorithms;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Lock-free union–find that may be shared by any number of threads, with the same API as
+ * {@link UF}.
+ *
+ * <p>Roots are linked with a single compare-and-set, always placing the root of lower priority
+ * under the root of higher priority; priorities are a fixed random permutation of the sites, so
+ * no cycle can form and trees stay shallow in expectation (Jayanti and Tarjan). {@code find}
+ * never blocks: it compresses paths by splitting with compare-and-set, and a failed CAS just
+ * means another thread already shortened the path. The component count is decremented by the
+ * thread whose CAS performs a link, so it is exact whenever no {@code union} is in progress.
+ */
+public class ConcurrentUF {
+
+  private final AtomicIntegerArray parent; // parent[i] = parent of i
+  private final int[] priority; // priority[i] = random rank of site i, all distinct
+  private final AtomicInteger count; // number of components
+
+  /**
+   * Initializes an empty union–find data structure with {@code n} sites {@code 0} through {@code
+   * n-1}. Each site is initially in its own component.
+   *
+   * @param n the number of sites
+   * @throws IllegalArgumentException if {@code n < 0}
+   */
+  public ConcurrentUF(int n) {
+    if (n < 0) throw new IllegalArgumentException();
+    count = new AtomicInteger(n);
+    parent = new AtomicIntegerArray(n);
+    priority = new int[n];
+    for (int i = 0; i < n; i++) {
+      parent.set(i, i);
+      priority[i] = i;
+    }
+    // Fisher–Yates shuffle
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    for (int i = n - 1; i > 0; i--) {
+      int j = random.nextInt(i + 1);
+      int t = priority[i];
+      priority[i] = priority[j];
+      priority[j] = t;
+    }
+  }
+
+  /**
+   * Returns the component identifier for the component containing site {@code p}. The
+   * identifier may change if a concurrent {@code union} merges the component.
+   *
+   * @param p the integer representing one site
+   * @return the component identifier for the component containing site {@code p}
+   * @throws IndexOutOfBoundsException unless {@code 0 <= p < n}
+   */
+  public int find(int p) {
+    validate(p);
+    while (true) {
+      int q = parent.get(p);
+      if (q == p) return p;
+      int r = parent.get(q);
+      if (q != r) parent.compareAndSet(p, q, r); // path splitting
+      p = q;
+    }
+  }
+
+  /**
+   * Returns the number of components.
+   *
+   * @return the number of components (between {@code 1} and {@code n})
+   */
+  public int count() {
+    return count.get();
+  }
+
+  /**
+   * Returns true if the the two sites are in the same component.
+   *
+   * @param p the integer representing one site
+   * @param q the integer representing the other site
+   * @return {@code true} if the two sites {@code p} and {@code q} are in the same component; {@code
+   *     false} otherwise
+   * @throws IndexOutOfBoundsException unless both {@code 0 <= p < n} and {@code 0 <= q < n}
+   */
+  public boolean connected(int p, int q) {
+    while (true) {
+      int rootP = find(p);
+      int rootQ = find(q);
+      if (rootP == rootQ) return true;
+      // rootP may have been linked after we found it; only a root is a valid answer
+      if (parent.get(rootP) == rootP) return false;
+    }
+  }
+
+  /**
+   * Merges the component containing site {@code p} with the the component containing site {@code
+   * q}.
+   *
+   * @param p the integer representing one site
+   * @param q the integer representing the other site
+   * @throws IndexOutOfBoundsException unless both {@code 0 <= p < n} and {@code 0 <= q < n}
+   */
+  public void union(int p, int q) {
+    while (true) {
+      int rootP = find(p);
+      int rootQ = find(q);
+      if (rootP == rootQ) return;
+
+      // make root of lower priority point to root of higher priority
+      if (priority[rootP] > priority[rootQ]) {
+        int t = rootP;
+        rootP = rootQ;
+        rootQ = t;
+      }
+      if (parent.compareAndSet(rootP, rootP, rootQ)) {
+        count.decrementAndGet();
+        return;
+      }
+    }
+  }
+
+  // validate that p is a valid index
+  private void validate(int p) {
+    int n = parent.length();
+    if (p < 0 || p >= n) {
+      throw new IndexOutOfBoundsException("index " + p + " is not between 0 and " + (n - 1));
+    }
+  }
+
+  /**
+   * Stress test: {@code threads} threads apply {@code m} random unions each to {@code n} shared
+   * sites, then the components and count are checked against a sequential {@link UF} fed the
+   * same pairs.
+   *
+   * @param args the command-line arguments: n, m and threads
+   */
+  public static void main(String[] args) throws InterruptedException {
+    final int n = Integer.parseInt(args[0]);
+    final int m = Integer.parseInt(args[1]);
+    int threads = Integer.parseInt(args[2]);
+
+    final int[][] pairs = new int[threads][2 * m];
+    for (int t = 0; t < threads; t++) {
+      for (int i = 0; i < 2 * m; i++) {
+        pairs[t][i] = StdRandom.uniform(n);
+      }
+    }
+
+    final ConcurrentUF uf = new ConcurrentUF(n);
+    Thread[] workers = new Thread[threads];
+    long start = System.nanoTime();
+    for (int t = 0; t < threads; t++) {
+      final int[] mine = pairs[t];
+      workers[t] = new Thread(() -> {
+        for (int i = 0; i < 2 * m; i += 2) {
+          uf.union(mine[i], mine[i + 1]);
+          uf.connected(mine[i + 1], mine[i]);
+        }
+      });
+      workers[t].start();
+    }
+    for (Thread worker : workers) {
+      worker.join();
+    }
+    long elapsed = System.nanoTime() - start;
+
+    UF expected = new UF(n);
+    for (int[] mine : pairs) {
+      for (int i = 0; i < 2 * m; i += 2) {
+        expected.union(mine[i], mine[i + 1]);
+      }
+    }
+    // same partition: roots must correspond one-to-one
+    int[] rootOf = new int[n];
+    Arrays.fill(rootOf, -1);
+    boolean ok = uf.count() == expected.count();
+    for (int p = 0; p < n && ok; p++) {
+      int a = expected.find(p);
+      int b = uf.find(p);
+      if (rootOf[a] == -1) rootOf[a] = b;
+      else if (rootOf[a] != b) ok = false;
+    }
+    StdOut.println(uf.count() + " components, expected " + expected.count());
+    StdOut.printf("%d unions on %d threads in %.1f ms: %s%n",
+        (long) threads * m, threads, elapsed / 1e6, ok ? "OK" : "MISMATCH");
+  }
+}
@@ -0,0 +1,149 @@
+package com.algorithms;
+
+/**
+ * Count-Min sketch of the frequencies of strings in a stream. It takes a
+ * fixed {@code depth x width} array of counters however many distinct strings
+ * the stream holds, and every string's estimate is at least its true count.
+ * With probability at least {@code 1 - delta}, the estimate exceeds the true
+ * count by at most {@code epsilon} times the total count, for
+ * {@code width = ceil(e / epsilon)} and {@code depth = ceil(ln(1 / delta))}.
+ * <p>
+ * Sketches with the same dimensions and seed are mergeable: after
+ * {@code a.merge(b)}, {@code a} is the sketch of both streams, so shards
+ * of a stream can be sketched separately and combined.
+ */
+public class CountMinSketch {
+    private static final long DEFAULT_SEED = 0x2545f4914f6cdd1dL;
+
+    private final int width;
+    private final int depth;
+    private final long seed;
+    private final long[] counts;    // row r is counts[r * width, (r + 1) * width)
+    private long total;
+
+    /**
+     * Initializes an empty sketch with error {@code epsilon} and confidence
+     * {@code 1 - delta}, and the default seed.
+     *
+     * @throws IllegalArgumentException unless {@code 0 < epsilon < 1} and {@code 0 < delta < 1}
+     */
+    public CountMinSketch(double epsilon, double delta) {
+        this(epsilon, delta, DEFAULT_SEED);
+    }
+
+    /**
+     * Initializes an empty sketch with error {@code epsilon}, confidence
+     * {@code 1 - delta}, and hash functions chosen by {@code seed}.
+     *
+     * @throws IllegalArgumentException unless {@code 0 < epsilon < 1} and {@code 0 < delta < 1}
+     */
+    public CountMinSketch(double epsilon, double delta, long seed) {
+        if (!(epsilon > 0 && epsilon < 1)) throw new IllegalArgumentException("epsilon must be between 0 and 1");
+        if (!(delta > 0 && delta < 1)) throw new IllegalArgumentException("delta must be between 0 and 1");
+        long w = (long) Math.ceil(Math.E / epsilon);
+        if (w > Integer.MAX_VALUE) throw new IllegalArgumentException("epsilon is too small");
+        width = (int) w;
+        depth = Math.max(1, (int) Math.ceil(Math.log(1 / delta)));
+        if ((long) width * depth > Integer.MAX_VALUE - 8) throw new IllegalArgumentException("sketch is too large");
+        this.seed = seed;
+        counts = new long[width * depth];
+    }
+
+    public int width() {
+        return width;
+    }
+
+    public int depth() {
+        return depth;
+    }
+
+    /**
+     * Returns the sum of all counts added.
+     */
+    public long total() {
+        return total;
+    }
+
+    // 64-bit FNV-1a of the chars, started from the seed, with a final mix so
+    // that both halves are usable as hash values
+    private long hash(String item) {
+        long h = seed ^ 0xcbf29ce484222325L;
+        for (int i = 0; i < item.length(); i++) {
+            h = (h ^ item.charAt(i)) * 0x100000001b3L;
+        }
+        h = (h ^ (h >>> 33)) * 0xff51afd7ed558ccdL;
+        h = (h ^ (h >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return h ^ (h >>> 33);
+    }
+
+    // column of row r, from two hash values combined as h1 + r * h2
+    private int column(int h1, int h2, int r) {
+        return ((h1 + r * h2) & 0x7fffffff) % width;
+    }
+
+    public void add(String item) {
+        add(item, 1);
+    }
+
+    /**
+     * Adds {@code count} occurrences of {@code item}.
+     *
+     * @throws IllegalArgumentException if {@code count < 0}
+     */
+    public void add(String item, long count) {
+        if (item == null) throw new NullPointerException("argument to add() is null");
+        if (count < 0) throw new IllegalArgumentException("count must be nonnegative");
+        long h = hash(item);
+        int h1 = (int) h;
+        int h2 = (int) (h >>> 32);
+        for (int r = 0; r < depth; r++) {
+            counts[r * width + column(h1, h2, r)] += count;
+        }
+        total += count;
+    }
+
+    /**
+     * Returns an upper bound on the number of occurrences of {@code item}.
+     */
+    public long estimate(String item) {
+        if (item == null) throw new NullPointerException("argument to estimate() is null");
+        long h = hash(item);
+        int h1 = (int) h;
+        int h2 = (int) (h >>> 32);
+        long min = Long.MAX_VALUE;
+        for (int r = 0; r < depth; r++) {
+            min = Math.min(min, counts[r * width + column(h1, h2, r)]);
+        }
+        return min;
+    }
+
+    /**
+     * Adds the counts of {@code that} to this sketch.
+     *
+     * @throws IllegalArgumentException if the sketches differ in dimensions or seed
+     */
+    public void merge(CountMinSketch that) {
+        if (width != that.width || depth != that.depth || seed != that.seed) {
+            throw new IllegalArgumentException("only sketches with the same dimensions and seed can be merged");
+        }
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += that.counts[i];
+        }
+        total += that.total;
+    }
+
+    /**
+     * Sketches the words of standard input and prints the estimated count of
+     * each word given on the command line.
+     */
+    public static void main(String[] args) {
+        CountMinSketch sketch = new CountMinSketch(0.001, 0.01);
+        while (!StdIn.isEmpty()) {
+            sketch.add(StdIn.readString());
+        }
+        StdOut.println(sketch.total() + " words, " + sketch.depth() + " x " + sketch.width() + " counters");
+        for (String word : args) {
+            StdOut.println(word + " " + sketch.estimate(word));
+        }
+    }
+}
@@ -1,12 +1,286 @@
 package com.algorithms;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+
+/**
+ * Finds the shortest chain of connections between two names of a symbol
+ * graph. Usage:
+ * {@code DegreesOfSeparation [-c cache] [-t threads] [-n trees] [-p port] file delimiter [source]}.
+ * <p>
+ * Given a {@code source}, it prints the path from the source to each name
+ * read from standard input, as before. Without one, it serves queries: each
+ * line of standard input, or of each connection to {@code port} on the
+ * loopback address, is a source and a sink separated by the delimiter. The
+ * graph is loaded once, from the snapshot {@code cache} if it is up to date
+ * (see {@link SymbolGraph#SymbolGraph(String, String, String)}). Queries are
+ * answered on a pool of {@code threads} threads and their answers written in
+ * order, each followed by its latency from submission to being written and
+ * the part of it spent searching.
+ * <p>
+ * A query is answered by {@link BidirectionalBFS}, unless its source was
+ * queried recently: the breadth-first trees of the {@code trees} most
+ * recently repeated sources are kept in an LRU cache, so a source that keeps
+ * coming back costs one full search and then one walk up its tree per query.
+ */
 public class DegreesOfSeparation {
-    public static void main(String[] args) {
-        SymbolGraph sg = new SymbolGraph(args[0], args[1]);
+    private static final int DEFAULT_TREES = 16;
+
+    private final SymbolGraph sg;
+    private final CSRGraph G;
+    private final Pattern delimiter;
+    private final ExecutorService workers;
+    private final int threads;
+    private final ThreadLocal<BidirectionalBFS> searches;
+    private final LinkedHashMap<Integer, BreadthFirstPaths> trees;  // recent sources, null until repeated
+    private final int maxTrees;
+
+    /**
+     * Serves queries against {@code sg} on {@code threads} threads, caching
+     * the breadth-first trees of up to {@code maxTrees} repeated sources.
+     */
+    public DegreesOfSeparation(SymbolGraph sg, String delimiter, int threads, int maxTrees) {
+        if (threads < 1) throw new IllegalArgumentException("number of threads must be at least 1");
+        if (maxTrees < 0) throw new IllegalArgumentException("number of trees must be nonnegative");
+        this.sg = sg;
+        this.G = sg.csr();
+        this.delimiter = Pattern.compile(delimiter);
+        this.workers = Executors.newFixedThreadPool(threads);
+        this.threads = threads;
+        this.searches = ThreadLocal.withInitial(() -> new BidirectionalBFS(G));
+        this.maxTrees = maxTrees;
+        // the sources seen recently, in access order; twice as many as the
+        // trees, so a source can come back once before it gets a tree
+        this.trees = new LinkedHashMap<Integer, BreadthFirstPaths>(16, 0.75f, true) {
+            protected boolean removeEldestEntry(Map.Entry<Integer, BreadthFirstPaths> eldest) {
+                return size() > 2 * maxTrees;
+            }
+        };
+    }
+
+    // the answer to a query, and how long the search for it took
+    private static final class Answer {
+        final String text;
+        final long service;     // ns
+
+        Answer(String text, long service) {
+            this.text = text;
+            this.service = service;
+        }
+
+        // the answer followed by its latency: the total since the query was
+        // submitted, including time queued for a worker and waiting to be
+        // written in order, and the part spent answering it
+        String withLatency(long submitted) {
+            double total = (System.nanoTime() - submitted) / 1e6;
+            return text + String.format(Locale.ROOT, "(%.3f ms, %.3f ms searching)", total, service / 1e6) + '\n';
+        }
+    }
+
+    /**
+     * Returns the answer to one query line: the path from source to sink, one
+     * name per line, followed by the number of degrees and the time taken.
+     */
+    public String answer(String query) {
+        long start = System.nanoTime();
+        return search(query).withLatency(start);
+    }
+
+    private Answer search(String query) {
+        long start = System.nanoTime();
+        StringBuilder sb = new StringBuilder();
+        String[] a = delimiter.split(query, 2);
+        if (a.length < 2) {
+            sb.append("Expected a source and a sink separated by the delimiter").append('\n');
+        }
+        else if (!sg.contains(a[0]) || !sg.contains(a[1])) {
+            sb.append("Not in database.").append('\n');
+        }
+        else {
+            IntStack path = path(sg.index(a[0]), sg.index(a[1]));
+            if (path == null) {
+                sb.append("Not connected").append('\n');
+            }
+            else {
+                for (int v : path) {
+                    sb.append("    ").append(sg.name(v)).append('\n');
+                }
+                sb.append(path.size() - 1).append(" degrees").append('\n');
+            }
+        }
+        return new Answer(sb.toString(), System.nanoTime() - start);
+    }
+
+    private IntStack path(int s, int t) {
+        BreadthFirstPaths bfs = null;
+        boolean repeated = false;
+        if (maxTrees > 0) {
+            synchronized (trees) {
+                repeated = trees.containsKey(s);
+                bfs = trees.get(s);
+                if (!repeated) trees.put(s, null);
+            }
+        }
+        if (bfs == null && repeated) {
+            // two threads may both build the tree of a new repeat; either one will do
+            bfs = new BreadthFirstPaths(G, s);
+            synchronized (trees) {
+                trees.put(s, bfs);
+                evictTrees();
+            }
+        }
+        if (bfs != null) return bfs.pathToInts(t);
+        return searches.get().path(s, t);
+    }
+
+    // keeps at most maxTrees trees, dropping those of the least recent sources
+    private void evictTrees() {
+        int count = 0;
+        for (BreadthFirstPaths bfs : trees.values()) {
+            if (bfs != null) count++;
+        }
+        for (Map.Entry<Integer, BreadthFirstPaths> e : trees.entrySet()) {
+            if (count <= maxTrees) break;
+            if (e.getValue() != null) {
+                e.setValue(null);
+                count--;
+            }
+        }
+    }
+
+    /**
+     * Answers each line of {@code in} on the worker threads, writing the
+     * answers to {@code out} in the order of the queries. Each answer ends
+     * with its latency from submission to being written, and the part of it
+     * spent searching.
+     */
+    public void serve(BufferedReader in, PrintWriter out) throws IOException {
+        ArrayDeque<Future<Answer>> pending = new ArrayDeque<>();
+        ArrayDeque<Long> submitted = new ArrayDeque<>();
+        int window = 4 * threads;     // queries in flight
+        for (String line = in.readLine(); line != null; line = in.readLine()) {
+            String query = line;
+            submitted.add(System.nanoTime());
+            pending.add(workers.submit(() -> search(query)));
+            if (pending.size() >= window) write(out, pending, submitted);
+            // flush once caught up, so an interactive client sees its answer
+            if (!in.ready()) {
+                while (!pending.isEmpty()) write(out, pending, submitted);
+                out.flush();
+            }
+        }
+        while (!pending.isEmpty()) write(out, pending, submitted);
+        out.flush();
+    }
+
+    private static void write(PrintWriter out, ArrayDeque<Future<Answer>> pending, ArrayDeque<Long> submitted) {
+        Answer answer = get(pending.poll());
+        out.print(answer.withLatency(submitted.poll()));
+    }
+
+    private static Answer get(Future<Answer> future) {
+        try {
+            return future.get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while answering", e);
+        }
+        catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new IllegalStateException(cause);
+        }
+    }
 
-        Graph G = sg.G();
+    /**
+     * Accepts connections on {@code port} of the loopback address until the
+     * process is stopped, serving the queries of each connection in order.
+     */
+    public void listen(int port) throws IOException {
+        try (ServerSocket server = new ServerSocket(port, 50, InetAddress.getLoopbackAddress())) {
+            while (true) {
+                Socket socket = server.accept();
+                Thread connection = new Thread(() -> {
+                    try (Socket s = socket;
+                         BufferedReader in = new BufferedReader(
+                                 new InputStreamReader(s.getInputStream(), StandardCharsets.UTF_8));
+                         PrintWriter out = new PrintWriter(
+                                 new OutputStreamWriter(s.getOutputStream(), StandardCharsets.UTF_8))) {
+                        serve(in, out);
+                    }
+                    catch (IOException e) {
+                        System.err.println("connection failed: " + e.getMessage());
+                    }
+                });
+                connection.setDaemon(true);
+                connection.start();
+            }
+        }
+    }
+
+    public void shutdown() {
+        workers.shutdown();
+    }
+
+    public static void main(String[] args) throws IOException {
+        String cache = null;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int maxTrees = DEFAULT_TREES;
+        int port = -1;
+        int i = 0;
+        for (; i < args.length && args[i].startsWith("-"); i++) {
+            switch (args[i]) {
+                case "-c": cache = args[++i]; break;
+                case "-t": threads = Integer.parseInt(args[++i]); break;
+                case "-n": maxTrees = Integer.parseInt(args[++i]); break;
+                case "-p": port = Integer.parseInt(args[++i]); break;
+                default: throw new IllegalArgumentException("unknown option: " + args[i]);
+            }
+        }
+        String filename = args[i];
+        String delim = args[i + 1];
+        SymbolGraph sg = cache == null ? new SymbolGraph(filename, delim) : new SymbolGraph(filename, delim, cache);
+
+        if (i + 2 < args.length) {
+            single(sg, args[i + 2]);
+            return;
+        }
+
+        DegreesOfSeparation server = new DegreesOfSeparation(sg, delim, threads, maxTrees);
+        try {
+            if (port >= 0) {
+                server.listen(port);
+            }
+            else {
+                BufferedReader in = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+                server.serve(in, new PrintWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8)));
+            }
+        }
+        finally {
+            server.shutdown();
+        }
+    }
 
-        String source = args[2];
+    // one source from the command line, and sinks from standard input
+    private static void single(SymbolGraph sg, String source) {
         if (!sg.contains(source)) {
             StdOut.println(source + " not in database.");
             return;
@@ -14,7 +288,7 @@ public class DegreesOfSeparation {
 
         int s = sg.index(source);
 
-        BreadthFirstPaths bfs = new BreadthFirstPaths(G, s);
+        BreadthFirstPaths bfs = new BreadthFirstPaths(sg.csr(), s);
 
         while (!StdIn.isEmpty()) {
             String sink = StdIn.readLine();
@@ -2,14 +2,25 @@ package com.algorithms;
 
 public class DepthFirstOrder {
   private boolean[] marked;
-  private Queue<Integer> pre; // vertices in preorder
-  private Queue<Integer> post; // vertices in postorder
-  private Stack<Integer> reversePost; // vertices in reverse postorder
+  private IntQueue pre; // vertices in preorder
+  private IntQueue post; // vertices in postorder
+  private IntStack reversePost; // vertices in reverse postorder
 
   public DepthFirstOrder(Digraph G) {
-    pre = new Queue<>();
-    post = new Queue<>();
-    reversePost = new Stack<>();
+    pre = new IntQueue(G.V());
+    post = new IntQueue(G.V());
+    reversePost = new IntStack();
+    marked = new boolean[G.V()];
+
+    for (int v = 0; v < G.V(); v++) {
+      if (!marked[v]) dfs(G, v);
+    }
+  }
+
+  public DepthFirstOrder(CSRDigraph G) {
+    pre = new IntQueue(G.V());
+    post = new IntQueue(G.V());
+    reversePost = new IntStack();
     marked = new boolean[G.V()];
 
     for (int v = 0; v < G.V(); v++) {
@@ -29,6 +40,19 @@ public class DepthFirstOrder {
     reversePost.push(v);
   }
 
+  private void dfs(CSRDigraph G, int v) {
+    pre.enqueue(v);
+
+    marked[v] = true;
+    for (int i = G.begin(v); i < G.end(v); i++) {
+      int w = G.target(i);
+      if (!marked[w]) dfs(G, w);
+    }
+
+    post.enqueue(v);
+    reversePost.push(v);
+  }
+
   public Iterable<Integer> pre() {
     return pre;
   }
@@ -40,4 +64,25 @@ public class DepthFirstOrder {
   public Iterable<Integer> reversePost() {
     return reversePost;
   }
+
+  /**
+   * Returns the vertices in preorder, to be read with {@link IntQueue#get} without boxing.
+   */
+  public IntQueue preInts() {
+    return pre;
+  }
+
+  /**
+   * Returns the vertices in postorder, to be read with {@link IntQueue#get} without boxing.
+   */
+  public IntQueue postInts() {
+    return post;
+  }
+
+  /**
+   * Returns the vertices in reverse postorder, to be read with {@link IntStack#get} without boxing.
+   */
+  public IntStack reversePostInts() {
+    return reversePost;
+  }
 }
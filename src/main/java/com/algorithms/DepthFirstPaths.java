@@ -1,8 +1,5 @@
 package com.algorithms;
 
-import java.util.Deque;
-import java.util.ArrayDeque;
-
 public class DepthFirstPaths {
     private boolean[] marked;
     private int[] edgeTo;
@@ -15,6 +12,13 @@ public class DepthFirstPaths {
         dfs(G, s);
     }
 
+    public DepthFirstPaths(CSRGraph G, int s) {
+        marked = new boolean[G.V()];
+        edgeTo = new int[G.V()];
+        this.s = s;
+        dfs(G, s);
+    }
+
     private void dfs(Graph G, int v) {
         marked[v] = true;
         for (int w : G.adj(v)) {
@@ -25,15 +29,34 @@ public class DepthFirstPaths {
         }
     }
 
+    private void dfs(CSRGraph G, int v) {
+        marked[v] = true;
+        for (int i = G.begin(v); i < G.end(v); i++) {
+            int w = G.target(i);
+            if (!marked[w]) {
+                edgeTo[w] = v;
+                dfs(G, w);
+            }
+        }
+    }
+
     public boolean hasPathTo(int v) {
         return marked[v];
     }
 
     public Iterable<Integer> pathTo(int v) {
+        return pathToInts(v);
+    }
+
+    /**
+     * Returns the same path as {@link #pathTo}, as an {@link IntStack} whose
+     * vertices can be read with {@link IntStack#get} without boxing.
+     */
+    public IntStack pathToInts(int v) {
         if (!hasPathTo(v)) {
             return null;
         }
-        Deque<Integer> path = new ArrayDeque<>();
+        IntStack path = new IntStack();
         for (int x = v; x != s; x = edgeTo[x]) {
             path.push(x);
         }
@@ -48,7 +71,9 @@ public class DepthFirstPaths {
         for (int v = 0; v < G.V(); v++) {
             StdOut.print(s + " to " + v + ": ");
             if (search.hasPathTo(v)) {
-                for (int x : search.pathTo(v)) {
+                IntStack path = search.pathToInts(v);
+                for (int i = 0; i < path.size(); i++) {
+                    int x = path.get(i);
                     if (x == s) {
                         StdOut.print(x);
                     } else {
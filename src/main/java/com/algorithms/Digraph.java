@@ -68,6 +68,21 @@ public class Digraph {
         }
     }
 
+    /**
+     * Initializes a digraph with the same adjacency lists as {@code G}, in the same order.
+     */
+    public Digraph(CSRDigraph G) {
+        this(G.V());
+        this.E = G.E();
+        for (int v = 0; v < V; v++) {
+            this.indegree[v] = G.indegree(v);
+            // Bag lists items last added first, so add each row back to front
+            for (int i = G.end(v) - 1; i >= G.begin(v); i--) {
+                adj[v].add(G.target(i));
+            }
+        }
+    }
+
     private void validateVertex(int v) {
         if (v < 0 || v >= V) {
             throw new IndexOutOfBoundsException("vertex " + v + " is not between 0 and " + (V - 1));
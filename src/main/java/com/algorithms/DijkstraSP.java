@@ -0,0 +1,202 @@
+package com.algorithms;
+
+/**
+ * Dijkstra's algorithm for shortest paths in an edge-weighted digraph with nonnegative weights.
+ * <p>
+ * {@code new DijkstraSP(G, s)} answers queries from the single source {@code s}. For many queries
+ * on one digraph, build a workspace once with {@code new DijkstraSP(G)} and call {@link #search(int,
+ * int)} per query: the digraph is copied into flat arrays up front, a search stops as soon as its
+ * target is settled, and the next search resets only the vertices the previous one touched, so a
+ * short route on a large digraph costs time proportional to the part of the digraph it explores.
+ * <p>
+ * The workspace is a snapshot: edges added to {@code G} after construction are not seen. A
+ * workspace is not safe for use by several threads at once; give each thread its own.
+ */
+public class DijkstraSP {
+  private final int V;
+  private final int[] offsets; // edges leaving v are [offsets[v], offsets[v + 1])
+  private final int[] targets; // targets[i] = edges[i].to()
+  private final double[] weights; // weights[i] = edges[i].weight()
+  private final DirectedEdge[] edges;
+
+  private final double[] distTo; // distTo[v] = distance of shortest s->v path found so far
+  private final int[] edgeTo; // edgeTo[v] = index of last edge on that path, or -1
+  private final DoubleIndexMinPQ pq; // vertices with a tentative distance, in a 4-ary heap
+  private final int[] touched; // vertices whose distTo is finite, in order of discovery
+  private int touchedCount;
+  private int s = -1; // source of the last search, or -1 before the first
+
+  /**
+   * Computes a shortest-paths tree from {@code s} to every other vertex.
+   *
+   * @throws IllegalArgumentException if an edge weight is negative
+   * @throws IndexOutOfBoundsException unless {@code 0 <= s < V}
+   */
+  public DijkstraSP(EdgeWeightedDigraph G, int s) {
+    this(G);
+    search(s);
+  }
+
+  /**
+   * Creates a reusable search workspace for {@code G} without running a search.
+   *
+   * @throws IllegalArgumentException if an edge weight is negative
+   */
+  public DijkstraSP(EdgeWeightedDigraph G) {
+    V = G.V();
+    offsets = new int[V + 1];
+    for (int v = 0; v < V; v++) {
+      offsets[v + 1] = offsets[v] + G.outdegree(v);
+    }
+    int E = offsets[V];
+    targets = new int[E];
+    weights = new double[E];
+    edges = new DirectedEdge[E];
+    int i = 0;
+    for (int v = 0; v < V; v++) {
+      for (DirectedEdge e : G.adj(v)) {
+        if (e.weight() < 0) {
+          throw new IllegalArgumentException("edge " + e + " has negative weight");
+        }
+        targets[i] = e.to();
+        weights[i] = e.weight();
+        edges[i] = e;
+        i++;
+      }
+    }
+
+    distTo = new double[V];
+    edgeTo = new int[V];
+    for (int v = 0; v < V; v++) {
+      distTo[v] = Double.POSITIVE_INFINITY;
+      edgeTo[v] = -1;
+    }
+    pq = new DoubleIndexMinPQ(V, 4);
+    touched = new int[V];
+  }
+
+  /**
+   * Computes a shortest-paths tree from {@code s} to every vertex reachable from it, replacing the
+   * results of any earlier search.
+   *
+   * @throws IndexOutOfBoundsException unless {@code 0 <= s < V}
+   */
+  public void search(int s) {
+    validateVertex(s);
+    run(s, -1);
+  }
+
+  /**
+   * Searches from {@code s} until the shortest path to {@code t} is known, replacing the results
+   * of any earlier search. Afterwards {@code distTo}, {@code hasPathTo} and {@code pathTo} are
+   * exact for {@code t} and for every vertex closer to {@code s} than {@code t}; for other
+   * vertices they describe the best path found before the search stopped.
+   *
+   * @return the length of a shortest path from {@code s} to {@code t}, or {@code
+   *     Double.POSITIVE_INFINITY} if there is none
+   * @throws IndexOutOfBoundsException unless {@code 0 <= s < V} and {@code 0 <= t < V}
+   */
+  public double search(int s, int t) {
+    validateVertex(s);
+    validateVertex(t);
+    run(s, t);
+    return distTo[t];
+  }
+
+  private void run(int s, int t) {
+    reset();
+    this.s = s;
+    touch(s, 0.0, -1);
+    pq.insert(s, 0.0);
+    while (!pq.isEmpty()) {
+      int v = pq.delMin();
+      if (v == t) break;
+      relax(v);
+    }
+  }
+
+  private void relax(int v) {
+    double dist = distTo[v];
+    for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+      int w = targets[i];
+      double d = dist + weights[i];
+      if (d < distTo[w]) {
+        if (distTo[w] == Double.POSITIVE_INFINITY) {
+          touch(w, d, i);
+          pq.insert(w, d);
+        } else {
+          distTo[w] = d;
+          edgeTo[w] = i;
+          pq.decreaseKey(w, d);
+        }
+      }
+    }
+  }
+
+  private void touch(int v, double dist, int edge) {
+    distTo[v] = dist;
+    edgeTo[v] = edge;
+    touched[touchedCount++] = v;
+  }
+
+  // undoes the last search in time proportional to the vertices it reached
+  private void reset() {
+    for (int k = 0; k < touchedCount; k++) {
+      int v = touched[k];
+      distTo[v] = Double.POSITIVE_INFINITY;
+      edgeTo[v] = -1;
+    }
+    touchedCount = 0;
+    pq.clear();
+  }
+
+  private void validateVertex(int v) {
+    if (v < 0 || v >= V) {
+      throw new IndexOutOfBoundsException("vertex " + v + " is not between 0 and " + (V - 1));
+    }
+  }
+
+  /**
+   * Returns the length of a shortest path from the source to {@code v}, or {@code
+   * Double.POSITIVE_INFINITY} if there is none.
+   */
+  public double distTo(int v) {
+    validateVertex(v);
+    return distTo[v];
+  }
+
+  public boolean hasPathTo(int v) {
+    validateVertex(v);
+    return distTo[v] < Double.POSITIVE_INFINITY;
+  }
+
+  public Iterable<DirectedEdge> pathTo(int v) {
+    if (!hasPathTo(v)) {
+      return null;
+    }
+    Stack<DirectedEdge> path = new Stack<>();
+    for (int i = edgeTo[v]; i != -1; i = edgeTo[edges[i].from()]) {
+      path.push(edges[i]);
+    }
+    return path;
+  }
+
+  public static void main(String[] args) {
+    In in = new In(args[0]);
+    EdgeWeightedDigraph G = new EdgeWeightedDigraph(in);
+    int s = Integer.parseInt(args[1]);
+
+    DijkstraSP sp = new DijkstraSP(G, s);
+    for (int t = 0; t < G.V(); t++) {
+      if (sp.hasPathTo(t)) {
+        StdOut.printf("%d to %d (%.2f)  ", s, t, sp.distTo(t));
+        for (DirectedEdge e : sp.pathTo(t)) {
+          StdOut.print(e + "   ");
+        }
+        StdOut.println();
+      } else {
+        StdOut.printf("%d to %d         no path\n", s, t);
+      }
+    }
+  }
+}
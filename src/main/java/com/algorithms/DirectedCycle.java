@@ -19,6 +19,15 @@ public class DirectedCycle {
     }
   }
 
+  public DirectedCycle(CSRDigraph G) {
+    onStack = new boolean[G.V()];
+    edgeTo = new int[G.V()];
+    marked = new boolean[G.V()];
+    for (int v = 0; v < G.V(); v++) {
+      if (!marked[v]) dfs(G, v);
+    }
+  }
+
   private void dfs(Digraph G, int v) {
     onStack[v] = true;
     marked[v] = true;
@@ -40,6 +49,28 @@ public class DirectedCycle {
     onStack[v] = false;
   }
 
+  private void dfs(CSRDigraph G, int v) {
+    onStack[v] = true;
+    marked[v] = true;
+    for (int i = G.begin(v); i < G.end(v); i++) {
+      int w = G.target(i);
+      if (hasCycle()) {
+        return;
+      } else if (!marked[w]) {
+        edgeTo[w] = v;
+        dfs(G, w);
+      } else if (onStack[w]) {
+        cycle = new Stack<>();
+        for (int x = v; x != w; x = edgeTo[x]) {
+          cycle.push(x);
+        }
+        cycle.push(w);
+        cycle.push(v);
+      }
+    }
+    onStack[v] = false;
+  }
+
   public boolean hasCycle() {
     return cycle != null;
   }
@@ -0,0 +1,33 @@
+package com.algorithms;
+
+public class DirectedEdge {
+  private final int v;
+  private final int w;
+  private final double weight;
+
+  public DirectedEdge(int v, int w, double weight) {
+    if (v < 0) throw new IllegalArgumentException("Vertex names must be nonnegative integers");
+    if (w < 0) throw new IllegalArgumentException("Vertex names must be nonnegative integers");
+    if (Double.isNaN(weight)) throw new IllegalArgumentException("Weight is NaN");
+    this.v = v;
+    this.w = w;
+    this.weight = weight;
+  }
+
+  public int from() {
+    return v;
+  }
+
+  public int to() {
+    return w;
+  }
+
+  public double weight() {
+    return weight;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%d->%d %.5f", v, w, weight);
+  }
+}
@@ -0,0 +1,365 @@
+package com.algorithms;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Sorts more strings than fit in memory. Records (lines or whitespace
+ * separated tokens) are read from an {@link In} into a buffer until it reaches
+ * the memory budget; each full buffer is sorted with {@link Quick3string} and
+ * written to a temporary run file, optionally gzip compressed. The runs are
+ * then merged with a {@link MinPQ} of run cursors, at most {@code fanIn} at a
+ * time, in as many passes as needed; the last pass writes the output.
+ * Input that fits in one buffer is sorted without touching the disk.
+ * <p>
+ * With {@code threads > 1}, full buffers are sorted and written by that many
+ * worker threads while reading continues. The budget is then shared by the
+ * buffer being filled and the ones being sorted, so runs are shorter.
+ * <p>
+ * Records are ordered as by {@link String#compareTo}. Memory use is
+ * estimated from string lengths, so the budget is approximate.
+ */
+public class ExternalSort {
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final long BYTES_PER_RECORD = 64;    // String and array headers plus a reference
+
+    private final long memory;
+    private final int fanIn;
+    private final boolean compress;
+    private final int threads;
+
+    /**
+     * Initializes a sorter that buffers about {@code memory} bytes of records,
+     * merges up to {@code fanIn} runs at a time, and does not compress runs.
+     *
+     * @throws IllegalArgumentException if {@code memory <= 0} or {@code fanIn < 2}
+     */
+    public ExternalSort(long memory, int fanIn) {
+        this(memory, fanIn, false, 1);
+    }
+
+    /**
+     * Initializes a sorter that buffers about {@code memory} bytes of records,
+     * merges up to {@code fanIn} runs at a time, gzips run files if
+     * {@code compress} is set, and sorts runs on {@code threads} threads.
+     *
+     * @throws IllegalArgumentException if {@code memory <= 0}, {@code fanIn < 2} or {@code threads < 1}
+     */
+    public ExternalSort(long memory, int fanIn, boolean compress, int threads) {
+        if (memory <= 0) throw new IllegalArgumentException("memory budget must be positive");
+        if (fanIn < 2) throw new IllegalArgumentException("merge fan-in must be at least 2");
+        if (threads < 1) throw new IllegalArgumentException("number of threads must be at least 1");
+        this.memory = memory;
+        this.fanIn = fanIn;
+        this.compress = compress;
+        this.threads = threads;
+    }
+
+    /**
+     * Sorts the lines of {@code in} to standard output.
+     */
+    public void sortLines(In in) {
+        sort(in, true, null);
+    }
+
+    /**
+     * Sorts the lines of {@code in} into the named file.
+     */
+    public void sortLines(In in, String filename) {
+        sort(in, true, filename);
+    }
+
+    /**
+     * Sorts the whitespace separated tokens of {@code in} to standard output, one per line.
+     */
+    public void sortTokens(In in) {
+        sort(in, false, null);
+    }
+
+    /**
+     * Sorts the whitespace separated tokens of {@code in} into the named file, one per line.
+     */
+    public void sortTokens(In in, String filename) {
+        sort(in, false, filename);
+    }
+
+    private void sort(In in, boolean lines, String filename) {
+        List<File> runs = new ArrayList<>();
+        try {
+            String[] records = createRuns(in, lines, runs);
+            if (records != null) {
+                // everything fit in memory
+                try (Writer out = output(filename)) {
+                    for (String record : records) write(out, record);
+                }
+                return;
+            }
+            while (runs.size() > fanIn) {
+                runs = mergePass(runs);
+            }
+            try (Writer out = output(filename)) {
+                merge(runs, out);
+            }
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException("External sort failed", e);
+        }
+        finally {
+            for (File run : runs) run.delete();
+        }
+    }
+
+    // Reads all records, adding a sorted run file to runs for every full
+    // buffer. Returns the sorted records instead if they all fit in one buffer.
+    private String[] createRuns(In in, boolean lines, List<File> runs) throws IOException {
+        long budget = threads == 1 ? memory : memory / (threads + 1);
+        ExecutorService workers = threads == 1 ? null : Executors.newFixedThreadPool(threads);
+        Semaphore idle = new Semaphore(threads);
+        List<Future<File>> pending = new ArrayList<>();
+        try {
+            String[] buffer = new String[1024];
+            int n = 0;
+            long used = 0;
+            while (lines ? in.hasNextLine() : !in.isEmpty()) {
+                String record = lines ? in.readLine() : in.readString();
+                if (n == buffer.length) buffer = Arrays.copyOf(buffer, 2 * n);
+                buffer[n++] = record;
+                used += BYTES_PER_RECORD + 2L * record.length();
+                if (used < budget) continue;
+
+                String[] full = Arrays.copyOf(buffer, n);
+                n = 0;
+                used = 0;
+                Arrays.fill(buffer, null);
+                if (workers == null) {
+                    runs.add(writeRun(full));
+                }
+                else {
+                    // wait for a free worker so at most threads + 1 buffers are live
+                    idle.acquireUninterruptibly();
+                    pending.add(workers.submit(() -> {
+                        try {
+                            return writeRun(full);
+                        }
+                        finally {
+                            idle.release();
+                        }
+                    }));
+                }
+            }
+            for (Future<File> run : pending) {
+                runs.add(get(run));
+            }
+            String[] rest = Arrays.copyOf(buffer, n);
+            if (runs.isEmpty()) {
+                Quick3string.sort(rest);
+                return rest;
+            }
+            if (n > 0) runs.add(writeRun(rest));
+            return null;
+        }
+        finally {
+            if (workers != null) {
+                workers.shutdown();
+                // keep temporary files of runs still being written from leaking
+                for (Future<File> run : pending) {
+                    try {
+                        File file = run.get();
+                        if (!runs.contains(file)) file.delete();
+                    }
+                    catch (InterruptedException | ExecutionException e) {
+                        // already reported, or nothing was written
+                    }
+                }
+            }
+        }
+    }
+
+    private static File get(Future<File> run) throws IOException {
+        try {
+            return run.get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("interrupted while writing a run", e);
+        }
+        catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) throw (IOException) cause;
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            throw new IOException(cause);
+        }
+    }
+
+    private File writeRun(String[] records) throws IOException {
+        Quick3string.sort(records);
+        File run = createRun();
+        try (Writer out = runWriter(run)) {
+            for (String record : records) write(out, record);
+        }
+        return run;
+    }
+
+    // merges consecutive groups of fanIn runs into new runs
+    private List<File> mergePass(List<File> runs) throws IOException {
+        List<File> merged = new ArrayList<>();
+        try {
+            for (int i = 0; i < runs.size(); i += fanIn) {
+                List<File> group = runs.subList(i, Math.min(i + fanIn, runs.size()));
+                File run = createRun();
+                merged.add(run);
+                try (Writer out = runWriter(run)) {
+                    merge(group, out);
+                }
+                for (File file : group) file.delete();
+            }
+        }
+        catch (IOException | RuntimeException e) {
+            for (File run : merged) run.delete();
+            throw e;
+        }
+        return merged;
+    }
+
+    private void merge(List<File> runs, Writer out) throws IOException {
+        MinPQ<Cursor> pq = new MinPQ<>(runs.size());
+        List<Cursor> cursors = new ArrayList<>();
+        try {
+            for (int i = 0; i < runs.size(); i++) {
+                Cursor cursor = new Cursor(i, runReader(runs.get(i)));
+                cursors.add(cursor);
+                if (cursor.advance()) pq.insert(cursor);
+            }
+            while (!pq.isEmpty()) {
+                Cursor cursor = pq.delMin();
+                write(out, cursor.head);
+                if (cursor.advance()) pq.insert(cursor);
+            }
+        }
+        finally {
+            for (Cursor cursor : cursors) cursor.reader.close();
+        }
+    }
+
+    // the next unmerged record of one run; ties go to the earlier run
+    private static class Cursor implements Comparable<Cursor> {
+        private final int index;
+        private final BufferedReader reader;
+        private String head;
+
+        Cursor(int index, BufferedReader reader) {
+            this.index = index;
+            this.reader = reader;
+        }
+
+        boolean advance() throws IOException {
+            head = reader.readLine();
+            return head != null;
+        }
+
+        @Override
+        public int compareTo(Cursor that) {
+            int cmp = this.head.compareTo(that.head);
+            if (cmp != 0) return cmp;
+            return Integer.compare(this.index, that.index);
+        }
+    }
+
+    private File createRun() throws IOException {
+        File run = File.createTempFile("run", compress ? ".txt.gz" : ".txt");
+        run.deleteOnExit();
+        return run;
+    }
+
+    private Writer runWriter(File run) throws IOException {
+        OutputStream os = new FileOutputStream(run);
+        if (compress) os = new GZIPOutputStream(os, BUFFER_SIZE);
+        return new BufferedWriter(new OutputStreamWriter(os, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    private BufferedReader runReader(File run) throws IOException {
+        InputStream is = new FileInputStream(run);
+        if (compress) is = new GZIPInputStream(is, BUFFER_SIZE);
+        return new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    // Records never contain line separators: In splits lines at all of them,
+    // and tokens contain no whitespace.
+    private static void write(Writer out, String record) throws IOException {
+        out.write(record);
+        out.write('\n');
+    }
+
+    // the named file, or standard output (left open) if filename is null
+    private static Writer output(String filename) throws IOException {
+        if (filename != null) {
+            return new BufferedWriter(new OutputStreamWriter(new FileOutputStream(filename), StandardCharsets.UTF_8),
+                                      BUFFER_SIZE);
+        }
+        OutputStream stdout = new FilterOutputStream(System.out) {
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+            }
+
+            @Override
+            public void close() throws IOException {
+                flush();
+            }
+        };
+        return new BufferedWriter(new OutputStreamWriter(stdout, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    /**
+     * Sorts a file. Usage: {@code ExternalSort [-m megabytes] [-k fanIn] [-z]
+     * [-t threads] [-w] input [output]}, where {@code -z} compresses runs and
+     * {@code -w} sorts whitespace separated tokens instead of lines. Without
+     * {@code output}, writes to standard output.
+     */
+    public static void main(String[] args) {
+        long megabytes = 64;
+        int fanIn = 64;
+        boolean compress = false;
+        int threads = 1;
+        boolean tokens = false;
+        int i = 0;
+        for (; i < args.length && args[i].startsWith("-"); i++) {
+            switch (args[i]) {
+                case "-m": megabytes = Long.parseLong(args[++i]); break;
+                case "-k": fanIn = Integer.parseInt(args[++i]); break;
+                case "-z": compress = true; break;
+                case "-t": threads = Integer.parseInt(args[++i]); break;
+                case "-w": tokens = true; break;
+                default: throw new IllegalArgumentException("unknown option: " + args[i]);
+            }
+        }
+        In in = new In(args[i]);
+        String output = i + 1 < args.length ? args[i + 1] : null;
+
+        ExternalSort sorter = new ExternalSort(megabytes << 20, fanIn, compress, threads);
+        if (tokens) sorter.sortTokens(in, output);
+        else        sorter.sortLines(in, output);
+    }
+}
@@ -0,0 +1,109 @@
+package com.algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Filter-Kruskal minimum spanning forest (Osipov, Sanders and Singler).
+ * Edges are partitioned around a pivot weight sampled from the input; the
+ * light half is solved first, and the heavy half is then filtered against
+ * the union-find structure before it is partitioned further, so most heavy
+ * edges of a dense graph are discarded without ever being sorted.
+ */
+public class FilterKruskalMST {
+  private static final int CUTOFF = 1024; // sort subarrays no larger than this
+  private static final int SAMPLE = 31; // edges sampled per pivot
+
+  private final int V;
+  private final UF uf;
+  private final Queue<Edge> mst = new Queue<>();
+  private double weight;
+
+  public FilterKruskalMST(EdgeWeightedGraph G) {
+    V = G.V();
+    uf = new UF(V);
+    Edge[] edges = new Edge[G.E()];
+    int n = 0;
+    for (Edge e : G.edges()) {
+      edges[n++] = e;
+    }
+    filterKruskal(edges, 0, n);
+  }
+
+  private void filterKruskal(Edge[] a, int lo, int hi) {
+    if (mst.size() == V - 1) return;
+    if (hi - lo <= CUTOFF) {
+      kruskal(a, lo, hi);
+      return;
+    }
+    double pivot = samplePivot(a, lo, hi);
+    int mid = partition(a, lo, hi, pivot);
+    // every edge on one side of the pivot (e.g. all weights equal)
+    if (mid == lo || mid == hi) {
+      kruskal(a, lo, hi);
+      return;
+    }
+    filterKruskal(a, lo, mid);
+    filterKruskal(a, mid, filter(a, mid, hi));
+  }
+
+  private void kruskal(Edge[] a, int lo, int hi) {
+    Arrays.sort(a, lo, hi);
+    for (int i = lo; i < hi && mst.size() < V - 1; i++) {
+      Edge e = a[i];
+      int v = e.either(), w = e.other(v);
+      if (uf.connected(v, w)) continue;
+      uf.union(v, w);
+      mst.enqueue(e);
+      weight += e.weight();
+    }
+  }
+
+  // median weight of a random sample of a[lo..hi)
+  private static double samplePivot(Edge[] a, int lo, int hi) {
+    double[] sample = new double[SAMPLE];
+    for (int i = 0; i < SAMPLE; i++) {
+      sample[i] = a[StdRandom.uniform(lo, hi)].weight();
+    }
+    Arrays.sort(sample);
+    return sample[SAMPLE / 2];
+  }
+
+  // rearranges a[lo..hi) so edges of weight <= pivot come first; returns the split
+  private static int partition(Edge[] a, int lo, int hi, double pivot) {
+    int i = lo, j = hi - 1;
+    while (true) {
+      while (i <= j && a[i].weight() <= pivot) i++;
+      while (i <= j && a[j].weight() > pivot) j--;
+      if (i >= j) return i;
+      Edge t = a[i]; a[i] = a[j]; a[j] = t;
+    }
+  }
+
+  // moves edges of a[lo..hi) that still join two components to the front; returns their end
+  private int filter(Edge[] a, int lo, int hi) {
+    int n = lo;
+    for (int i = lo; i < hi; i++) {
+      int v = a[i].either(), w = a[i].other(v);
+      if (!uf.connected(v, w)) a[n++] = a[i];
+    }
+    return n;
+  }
+
+  public Iterable<Edge> edges() {
+    return mst;
+  }
+
+  public double weight() {
+    return weight;
+  }
+
+  public static void main(String[] args) {
+    In in = new In(args[0]);
+    EdgeWeightedGraph G = new EdgeWeightedGraph(in);
+    FilterKruskalMST mst = new FilterKruskalMST(G);
+    for (Edge e : mst.edges()) {
+      StdOut.println(e);
+    }
+    StdOut.printf("%.5f\n", mst.weight());
+  }
+}
@@ -1,25 +1,578 @@
 package com.algorithms;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts how often each word of a text occurs. Words are the same
+ * whitespace-separated tokens that {@link StdIn#readString} returns, and
+ * words shorter than {@code minlen} chars are ignored.
+ * <p>
+ * The text is split at whitespace into one part per thread, and an input
+ * stream is read in blocks of a million chars that end at whitespace, handed
+ * to the threads through a bounded queue. Each thread tokenizes its text and
+ * counts it in a hash table of its own, which maps words to {@code int}
+ * counts. Tokens are hashed and compared in place, so only the first
+ * occurrence of a word in a table creates a {@code String}. Several tables
+ * are then merged into one. Every count that grows, in a single table as it
+ * is counted or in the merged one, goes to a heap of the {@code k} most
+ * frequent words, which is kept exact as counts grow, so the result needs no
+ * pass over the vocabulary after counting. Ties are broken in favour of the
+ * smaller word.
+ * <p>
+ * For streams too large to count exactly, {@link #sketch} feeds the words of
+ * an input stream into a {@link CountMinSketch} and a {@link SpaceSaving}
+ * summary instead, in memory that does not grow with the vocabulary. Both are
+ * mergeable, so shards of a stream can be sketched separately and combined.
+ */
 public class FrequencyCounter {
+    private static final int BLOCK = 1 << 20;          // chars read from a stream at a time
+    private static final String END = new String();    // tells a worker there are no more blocks
+
+    private final Counts counts;
+    private final long tokens;
+    private final String[] top;
+    private final int[] topCounts;
+
+    /**
+     * Counts the words of at least {@code minlen} chars in {@code text} on
+     * {@code threads} threads, keeping the {@code k} most frequent ones.
+     *
+     * @throws IllegalArgumentException if {@code k < 0} or {@code threads < 1}
+     */
+    public FrequencyCounter(String text, int minlen, int k, int threads) {
+        this(countParts(text, minlen, k, validate(k, threads)), k);
+    }
+
+    /**
+     * Counts the words of at least {@code minlen} chars in the rest of
+     * {@code in} on {@code threads} threads, keeping the {@code k} most
+     * frequent ones. The input is read in blocks, so memory grows with the
+     * vocabulary rather than with the size of the input.
+     *
+     * @throws IllegalArgumentException if {@code k < 0} or {@code threads < 1}
+     */
+    public FrequencyCounter(In in, int minlen, int k, int threads) {
+        this(countBlocks(in, minlen, k, validate(k, threads)), k);
+    }
+
+    /**
+     * Counts the words of at least {@code minlen} chars in the rest of
+     * {@code in}, on one thread per processor, keeping the most frequent one.
+     */
+    public FrequencyCounter(In in, int minlen) {
+        this(in, minlen, 1, Runtime.getRuntime().availableProcessors());
+    }
+
+    // Takes the counts of a single part as they are, with the top k found
+    // while counting; otherwise merges the parts into a table that keeps the
+    // top k as the merged counts grow.
+    private FrequencyCounter(List<Counts> parts, int k) {
+        Counts merged = parts.size() == 1 ? parts.get(0) : new Counts(k);
+        if (parts.size() > 1) {
+            for (Counts part : parts) {
+                for (int i = 0; i < part.keys.length; i++) {
+                    if (part.keys[i] != null) merged.add(part.keys[i], part.counts[i]);
+                }
+            }
+        }
+        counts = merged;
+        tokens = merged.total;
+        int found = merged.top == null ? 0 : merged.top.n;
+        top = new String[found];
+        topCounts = new int[found];
+        if (found > 0) merged.top.drain(top, topCounts);
+    }
+
+    // returns threads, once k and threads are checked
+    private static int validate(int k, int threads) {
+        if (k < 0) throw new IllegalArgumentException("k must be nonnegative");
+        if (threads < 1) throw new IllegalArgumentException("number of threads must be at least 1");
+        return threads;
+    }
+
+    // splits text at whitespace into about equal parts and counts each one;
+    // a single part keeps its own top k
+    private static List<Counts> countParts(String text, int minlen, int k, int threads) {
+        int length = text.length();
+        int parts = Math.max(1, Math.min(threads, length / (1 << 16)));
+        int[] bounds = new int[parts + 1];
+        for (int p = 1; p < parts; p++) {
+            int i = Math.max(bounds[p - 1], (int) ((long) length * p / parts));
+            while (i < length && !Character.isWhitespace(text.charAt(i))) i++;
+            bounds[p] = i;
+        }
+        bounds[parts] = length;
+
+        List<Counts> result = new ArrayList<>();
+        if (parts == 1) {
+            result.add(count(new Counts(k), text, 0, length, minlen));
+            return result;
+        }
+        ExecutorService workers = Executors.newFixedThreadPool(parts);
+        try {
+            List<Future<Counts>> futures = new ArrayList<>();
+            for (int p = 0; p < parts; p++) {
+                int from = bounds[p];
+                int to = bounds[p + 1];
+                futures.add(workers.submit(() -> count(new Counts(), text, from, to, minlen)));
+            }
+            for (Future<Counts> future : futures) {
+                result.add(get(future));
+            }
+            return result;
+        }
+        finally {
+            workers.shutdown();
+        }
+    }
+
+    // Reads in in blocks that end at whitespace and counts them on threads
+    // workers, each into a table of its own. Blocks go to the workers through
+    // a bounded queue, so at most a few blocks per worker are held at once.
+    // A single thread counts the blocks itself, keeping the top k.
+    private static List<Counts> countBlocks(In in, int minlen, int k, int threads) {
+        Blocks blocks = new Blocks(in);
+        List<Counts> result = new ArrayList<>();
+        if (threads == 1) {
+            Counts counts = new Counts(k);
+            for (String block = blocks.next(); block != null; block = blocks.next()) {
+                count(counts, block, 0, block.length(), minlen);
+            }
+            result.add(counts);
+            return result;
+        }
+        BlockingQueue<String> queue = new ArrayBlockingQueue<>(2 * threads);
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Counts>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(workers.submit(() -> {
+                    Counts counts = new Counts();
+                    for (String block = queue.take(); block != END; block = queue.take()) {
+                        count(counts, block, 0, block.length(), minlen);
+                    }
+                    return counts;
+                }));
+            }
+            for (String block = blocks.next(); block != null; block = blocks.next()) {
+                put(queue, block, futures);
+            }
+            for (int t = 0; t < threads; t++) {
+                put(queue, END, futures);
+            }
+            for (Future<Counts> future : futures) {
+                result.add(get(future));
+            }
+            return result;
+        }
+        finally {
+            // stops workers still waiting for blocks if reading failed
+            workers.shutdownNow();
+        }
+    }
+
+    // waits for room in the queue, rethrowing the failure of any worker
+    private static void put(BlockingQueue<String> queue, String block, List<Future<Counts>> futures) {
+        try {
+            while (!queue.offer(block, 100, TimeUnit.MILLISECONDS)) {
+                for (Future<Counts> future : futures) {
+                    if (future.isDone()) get(future);
+                }
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while counting", e);
+        }
+    }
+
+    // Splits the rest of an input stream into blocks of about BLOCK chars.
+    // Each block is cut after its last whitespace char, and the word it cuts
+    // through is carried over to the start of the next block.
+    private static final class Blocks {
+        private final In in;
+        private final char[] buf = new char[BLOCK];
+        private final StringBuilder carry = new StringBuilder();
+        private boolean eof;
+
+        Blocks(In in) {
+            this.in = in;
+        }
+
+        // the next block, or null at the end of the input
+        String next() {
+            while (!eof) {
+                int n = 0;
+                while (n < BLOCK) {
+                    int read = in.read(buf, n, BLOCK - n);
+                    if (read < 0) {
+                        eof = true;
+                        break;
+                    }
+                    n += read;
+                }
+                int cut = n;
+                while (cut > 0 && !Character.isWhitespace(buf[cut - 1])) cut--;
+                if (cut == 0) {
+                    // no whitespace: the whole block is part of one word
+                    carry.append(buf, 0, n);
+                    continue;
+                }
+                String block;
+                if (carry.length() == 0) {
+                    block = new String(buf, 0, cut);
+                }
+                else {
+                    block = carry.append(buf, 0, cut).toString();
+                    carry.setLength(0);
+                }
+                carry.append(buf, cut, n - cut);
+                return block;
+            }
+            if (carry.length() == 0) return null;
+            String block = carry.toString();
+            carry.setLength(0);
+            return block;
+        }
+    }
+
+    private static Counts get(Future<Counts> future) {
+        try {
+            return future.get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while counting", e);
+        }
+        catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    // adds the words in text[from, to), which starts and ends at a word
+    // boundary, to counts and returns it
+    private static Counts count(Counts counts, String text, int from, int to, int minlen) {
+        int i = from;
+        while (i < to) {
+            while (i < to && Character.isWhitespace(text.charAt(i))) i++;
+            int start = i;
+            int h = 0;
+            while (i < to) {
+                char c = text.charAt(i);
+                if (Character.isWhitespace(c)) break;
+                h = 31 * h + c;     // String.hashCode() of the word
+                i++;
+            }
+            if (i > start && i - start >= minlen) counts.increment(text, start, i, h);
+        }
+        return counts;
+    }
+
+    /**
+     * Adds the words of at least {@code minlen} chars in the rest of
+     * {@code in} to {@code sketch} and {@code summary}, one word at a time.
+     */
+    public static void sketch(In in, int minlen, CountMinSketch sketch, SpaceSaving<String> summary) {
+        while (!in.isEmpty()) {
+            String word = in.readString();
+            if (word.length() < minlen) continue;
+            sketch.add(word);
+            summary.add(word);
+        }
+    }
+
+    /**
+     * Returns the number of distinct words counted.
+     */
+    public int distinct() {
+        return counts.n;
+    }
+
+    /**
+     * Returns the number of words counted, with repetitions.
+     */
+    public long tokens() {
+        return tokens;
+    }
+
+    /**
+     * Returns the number of occurrences of {@code word}, or 0 if it was not counted.
+     */
+    public int frequency(String word) {
+        if (word == null) throw new NullPointerException("argument to frequency() is null");
+        return counts.get(word);
+    }
+
+    /**
+     * Returns the most frequent words, at most {@code k} of them, most frequent first.
+     */
+    public String[] top() {
+        return top.clone();
+    }
+
+    /**
+     * Returns the number of occurrences of each word of {@link #top}, in the same order.
+     */
+    public int[] topCounts() {
+        return topCounts.clone();
+    }
+
+    // Linear-probing table from words to counts. Each entry keeps the word's
+    // hash code, so probes compare ints first and rehashing never calls hashCode().
+    // A table with a TopK offers it every count that grows, so the most
+    // frequent words are known as soon as counting ends.
+    private static final class Counts {
+        private String[] keys = new String[16];
+        private int[] hashes = new int[16];
+        private int[] counts = new int[16];
+        private int[] rank;     // 1 + heap index in top of the word here, or 0; null without top
+        private final TopK top;
+        private int mask = 15;
+        private int n;          // number of distinct words
+        private long total;     // sum of the counts
+
+        Counts() {
+            this(0);
+        }
+
+        // a table that keeps its k most frequent words, if k > 0
+        Counts(int k) {
+            top = k > 0 ? new TopK(this, k) : null;
+            rank = k > 0 ? new int[16] : null;
+        }
+
+        private static int slot(int h, int mask) {
+            h *= 0x9e3779b9;
+            return (h ^ (h >>> 16)) & mask;
+        }
+
+        // adds one to the count of the word text[from, to), whose hash code is h
+        void increment(String text, int from, int to, int h) {
+            int len = to - from;
+            int i = slot(h, mask);
+            for (; keys[i] != null; i = (i + 1) & mask) {
+                if (hashes[i] == h && keys[i].length() == len && text.regionMatches(from, keys[i], 0, len)) {
+                    counts[i]++;
+                    total++;
+                    if (top != null) top.offer(i);
+                    return;
+                }
+            }
+            i = insert(i, text.substring(from, to), h, 1);
+            if (top != null) top.offer(i);
+        }
+
+        // adds count to the count of key and returns the sum
+        int add(String key, int count) {
+            int h = key.hashCode();
+            int i = slot(h, mask);
+            for (; keys[i] != null; i = (i + 1) & mask) {
+                if (hashes[i] == h && keys[i].equals(key)) {
+                    counts[i] += count;
+                    total += count;
+                    if (top != null) top.offer(i);
+                    return counts[i];
+                }
+            }
+            i = insert(i, key, h, count);
+            if (top != null) top.offer(i);
+            return count;
+        }
+
+        int get(String key) {
+            int h = key.hashCode();
+            for (int i = slot(h, mask); keys[i] != null; i = (i + 1) & mask) {
+                if (hashes[i] == h && keys[i].equals(key)) return counts[i];
+            }
+            return 0;
+        }
+
+        // puts key in the empty slot i and returns its slot, which moves if the table grows
+        private int insert(int i, String key, int h, int count) {
+            keys[i] = key;
+            hashes[i] = h;
+            counts[i] = count;
+            total += count;
+            if (++n < keys.length / 2) return i;
+            resize(2 * keys.length);
+            i = slot(h, mask);
+            while (keys[i] != key) i = (i + 1) & mask;
+            return i;
+        }
+
+        private void resize(int capacity) {
+            String[] oldKeys = keys;
+            int[] oldHashes = hashes;
+            int[] oldCounts = counts;
+            int[] oldRank = rank;
+            keys = new String[capacity];
+            hashes = new int[capacity];
+            counts = new int[capacity];
+            if (rank != null) rank = new int[capacity];
+            mask = capacity - 1;
+            for (int j = 0; j < oldKeys.length; j++) {
+                if (oldKeys[j] == null) continue;
+                int i = slot(oldHashes[j], mask);
+                while (keys[i] != null) i = (i + 1) & mask;
+                keys[i] = oldKeys[j];
+                hashes[i] = oldHashes[j];
+                counts[i] = oldCounts[j];
+                if (oldRank != null && oldRank[j] != 0) {
+                    rank[i] = oldRank[j];
+                    top.heap[rank[i] - 1] = i;
+                }
+            }
+        }
+    }
+
+    // The k best words of a Counts table, as a heap of its slots with the
+    // worst word at the root: the one with the lowest count, and of those the
+    // largest word. The table's rank array indexes the heap, so offering a
+    // slot costs no lookup. A word whose count grows is updated in place, so
+    // the heap stays exact as counts grow: the root only ever gets better,
+    // and a word left out was worse than the root when it last grew.
+    private static final class TopK {
+        private final Counts table;
+        private final int k;
+        private final int[] heap;
+        private int n;
+
+        TopK(Counts table, int k) {
+            this.table = table;
+            this.k = k;
+            heap = new int[k];
+        }
+
+        // the count of the word in slot i has grown
+        void offer(int i) {
+            int r = table.rank[i];
+            if (r != 0) {
+                sink(r - 1);
+            }
+            else if (n < k) {
+                set(n, i);
+                swim(n++);
+            }
+            else if (worse(heap[0], i)) {
+                table.rank[heap[0]] = 0;
+                set(0, i);
+                sink(0);
+            }
+        }
+
+        // is the word in slot i worse than the word in slot j?
+        private boolean worse(int i, int j) {
+            int ci = table.counts[i];
+            int cj = table.counts[j];
+            if (ci != cj) return ci < cj;
+            return table.keys[i].compareTo(table.keys[j]) > 0;
+        }
+
+        private void set(int h, int i) {
+            heap[h] = i;
+            table.rank[i] = h + 1;
+        }
+
+        private void exchange(int h, int g) {
+            int i = heap[h];
+            set(h, heap[g]);
+            set(g, i);
+        }
+
+        private void swim(int h) {
+            while (h > 0 && worse(heap[h], heap[(h - 1) / 2])) {
+                exchange(h, (h - 1) / 2);
+                h = (h - 1) / 2;
+            }
+        }
+
+        private void sink(int h) {
+            while (2 * h + 1 < n) {
+                int g = 2 * h + 1;
+                if (g + 1 < n && worse(heap[g + 1], heap[g])) g++;
+                if (!worse(heap[g], heap[h])) break;
+                exchange(h, g);
+                h = g;
+            }
+        }
+
+        // removes the words worst first, filling the arrays from the back
+        void drain(String[] top, int[] topCounts) {
+            while (n > 0) {
+                int i = heap[0];
+                top[n - 1] = table.keys[i];
+                topCounts[n - 1] = table.counts[i];
+                exchange(0, --n);
+                table.rank[i] = 0;
+                sink(0);
+            }
+        }
+    }
+
+    /**
+     * Prints the most frequent word of standard input with at least
+     * {@code minlen} chars, and its count. Usage:
+     * {@code FrequencyCounter [-k top] [-t threads] [-a [-e epsilon] [-d delta]] minlen},
+     * where {@code -k} prints the {@code top} most frequent words, one per
+     * line, instead. With {@code -a} the words are streamed through a sketch
+     * in fixed memory, and each count printed is an estimate that exceeds the
+     * true count by at most {@code epsilon} times the number of words, with
+     * probability at least {@code 1 - delta}.
+     */
     public static void main(String[] args) {
-        int minlen = Integer.parseInt(args[0]);
-        ST<String, Integer> st = new ST<>();
-        while (!StdIn.isEmpty()) {
-            // Build symbol table and count frequencies.
-            String word = StdIn.readString();
-            if (word.length() < minlen) continue;  // Ignore short keys.
-            if (!st.contains(word))
-                st.put(word, 1);
-            else
-                st.put(word, st.get(word) + 1);
-        }
-        // Find a key with the highest frequency count.
-        String max = "";
-        st.put(max, 0);
-        for (String word : st.keys()) {
-            if (st.get(word) > st.get(max))
-                max = word;
-        }
-        StdOut.println(max + " " + st.get(max));
+        int k = 0;
+        int threads = Runtime.getRuntime().availableProcessors();
+        boolean approximate = false;
+        double epsilon = 0.001;
+        double delta = 0.01;
+        int i = 0;
+        for (; i < args.length && args[i].startsWith("-"); i++) {
+            switch (args[i]) {
+                case "-k": k = Integer.parseInt(args[++i]); break;
+                case "-t": threads = Integer.parseInt(args[++i]); break;
+                case "-a": approximate = true; break;
+                case "-e": epsilon = Double.parseDouble(args[++i]); break;
+                case "-d": delta = Double.parseDouble(args[++i]); break;
+                default: throw new IllegalArgumentException("unknown option: " + args[i]);
+            }
+        }
+        int minlen = Integer.parseInt(args[i]);
+
+        if (approximate) {
+            CountMinSketch sketch = new CountMinSketch(epsilon, delta);
+            SpaceSaving<String> summary = new SpaceSaving<>((int) Math.max(k, Math.ceil(1 / epsilon)));
+            sketch(new In(), minlen, sketch, summary);
+            int printed = 0;
+            for (String word : summary.top(Math.max(k, 1))) {
+                StdOut.println(word + " " + Math.min(summary.estimate(word), sketch.estimate(word)));
+                printed++;
+            }
+            if (k == 0 && printed == 0) StdOut.println(" 0");
+            return;
+        }
+
+        FrequencyCounter counter = new FrequencyCounter(new In(), minlen, Math.max(k, 1), threads);
+        String[] top = counter.top();
+        int[] topCounts = counter.topCounts();
+        if (k == 0) {
+            // the empty word with count 0 when there are no words, as before
+            if (top.length == 0) StdOut.println(" 0");
+            else                 StdOut.println(top[0] + " " + topCounts[0]);
+            return;
+        }
+        for (int j = 0; j < top.length; j++) {
+            StdOut.println(top[j] + " " + topCounts[j]);
+        }
     }
 }
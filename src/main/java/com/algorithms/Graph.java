@@ -30,6 +30,21 @@ public class Graph
         }
     }
 
+    /**
+     * Initializes a graph with the same adjacency lists as {@code G}, in the same order.
+     */
+    public Graph(CSRGraph G)
+    {
+        this(G.V());
+        this.E = G.E();
+        for (int v = 0; v < V; v++) {
+            // Bag lists items last added first, so add each row back to front
+            for (int i = G.end(v) - 1; i >= G.begin(v); i--) {
+                adj[v].add(G.target(i));
+            }
+        }
+    }
+
     public int V() {
         return V;
     }
@@ -17,18 +17,19 @@ public class Heap {
     private static void sink(Comparable[] a, int k, int N) {
         while (2 * k <= N) {
             int j = 2 * k;
-            if (j < N && less(a[j], a[j + 1])) j++;
-            if (!less(a[k], a[j])) break;
+            if (j < N && less(a, j, j + 1)) j++;
+            if (!less(a, k, j)) break;
             exch(a, k, j);
             k = j;
         }
     }
 
-    private static boolean less(Comparable v, Comparable w) {
-        return v.compareTo(w) < 0;
+    // heap indices are 1-based, so a[i - 1] holds heap position i
+    private static boolean less(Comparable[] a, int i, int j) {
+        return a[i - 1].compareTo(a[j - 1]) < 0;
     }
 
     private static void exch(Comparable[] a, int i, int j) {
-        Comparable t = a[i]; a[i] = a[j]; a[j] = t;
+        Comparable t = a[i - 1]; a[i - 1] = a[j - 1]; a[j - 1] = t;
     }
 }
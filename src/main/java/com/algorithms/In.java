@@ -2,6 +2,7 @@ package com.algorithms;
 
 import java.io.BufferedInputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
@@ -28,6 +29,12 @@ import java.util.regex.Pattern;
  *  <i>Introduction to Programming in Java: An Interdisciplinary Approach</i>
  *  by Robert Sedgewick and Kevin Wayne.
  *  <p>
+ *  Except when constructed from a {@link Scanner}, input is read through a
+ *  buffered byte-level tokenizer that parses numbers without creating a
+ *  {@code String} per token. Set the system property
+ *  {@code algorithms.useScanner} to {@code true} to read through a
+ *  {@link Scanner} instead.
+ *  <p>
  *  Like {@link Scanner}, reading a token also consumes preceding Java
  *  whitespace, reading a full line consumes
  *  the following end-of-line delimeter, while reading a character consumes
@@ -66,16 +73,19 @@ public final class In {
     private static final Pattern EVERYTHING_PATTERN
             = Pattern.compile("\\A");
 
+    // read through a Scanner instead of the byte-level tokenizer?
+    private static final boolean USE_SCANNER = Boolean.getBoolean("algorithms.useScanner");
+
     //// end: section (1 of 2) of code duplicated from In to StdIn.
 
     private Scanner scanner;
+    private Tokenizer tokenizer;
 
     /**
      * Initializes an input stream from standard input.
      */
     public In() {
-        scanner = new Scanner(new BufferedInputStream(System.in), CHARSET_NAME);
-        scanner.useLocale(LOCALE);
+        open(System.in);
     }
 
     /**
@@ -86,14 +96,22 @@ public final class In {
     public In(java.net.Socket socket) {
         try {
             InputStream is = socket.getInputStream();
-            scanner = new Scanner(new BufferedInputStream(is), CHARSET_NAME);
-            scanner.useLocale(LOCALE);
+            open(is);
         }
         catch (IOException ioe) {
             System.err.println("Could not open " + socket);
         }
     }
 
+    /**
+     * Initializes an input stream from a byte stream, such as a decompressing one.
+     *
+     * @param  is the byte stream
+     */
+    public In(InputStream is) {
+        open(is);
+    }
+
     /**
      * Initializes an input stream from a URL.
      *
@@ -103,8 +121,7 @@ public final class In {
         try {
             URLConnection site = url.openConnection();
             InputStream is     = site.getInputStream();
-            scanner            = new Scanner(new BufferedInputStream(is), CHARSET_NAME);
-            scanner.useLocale(LOCALE);
+            open(is);
         }
         catch (IOException ioe) {
             System.err.println("Could not open " + url);
@@ -118,8 +135,7 @@ public final class In {
      */
     public In(File file) {
         try {
-            scanner = new Scanner(file, CHARSET_NAME);
-            scanner.useLocale(LOCALE);
+            open(new FileInputStream(file));
         }
         catch (IOException ioe) {
             System.err.println("Could not open " + file);
@@ -137,8 +153,7 @@ public final class In {
             // first try to read file from local file system
             File file = new File(s);
             if (file.exists()) {
-                scanner = new Scanner(file, CHARSET_NAME);
-                scanner.useLocale(LOCALE);
+                open(new FileInputStream(file));
                 return;
             }
 
@@ -157,8 +172,7 @@ public final class In {
             // site.addRequestProperty("User-Agent", "Mozilla/4.76");
 
             InputStream is     = site.getInputStream();
-            scanner            = new Scanner(new BufferedInputStream(is), CHARSET_NAME);
-            scanner.useLocale(LOCALE);
+            open(is);
         }
         catch (IOException ioe) {
             System.err.println("Could not open " + s);
@@ -178,13 +192,23 @@ public final class In {
         this.scanner = scanner;
     }
 
+    private void open(InputStream is) {
+        if (USE_SCANNER) {
+            scanner = new Scanner(new BufferedInputStream(is), CHARSET_NAME);
+            scanner.useLocale(LOCALE);
+        }
+        else {
+            tokenizer = new Tokenizer(is);
+        }
+    }
+
     /**
      * Returns true if this input stream exists.
      *
      * @return <tt>true</tt> if this input stream exists; <tt>false</tt> otherwise
      */
     public boolean exists()  {
-        return scanner != null;
+        return scanner != null || tokenizer != null;
     }
 
     ////  begin: section (2 of 2) of code duplicated from In to StdIn,
@@ -199,6 +223,7 @@ public final class In {
      *         <tt>false</tt> otherwise
      */
     public boolean isEmpty() {
+        if (tokenizer != null) return tokenizer.isEmpty();
         return !scanner.hasNext();
     }
 
@@ -212,6 +237,7 @@ public final class In {
      *         <tt>false</tt> otherwise
      */
     public boolean hasNextLine() {
+        if (tokenizer != null) return tokenizer.hasNextLine();
         return scanner.hasNextLine();
     }
 
@@ -225,6 +251,7 @@ public final class In {
      *         <tt>false</tt> otherwise
      */
     public boolean hasNextChar() {
+        if (tokenizer != null) return tokenizer.hasNextChar();
         scanner.useDelimiter(EMPTY_PATTERN);
         boolean result = scanner.hasNext();
         scanner.useDelimiter(WHITESPACE_PATTERN);
@@ -238,6 +265,7 @@ public final class In {
      * @return the next line in this input stream; <tt>null</tt> if no such line
      */
     public String readLine() {
+        if (tokenizer != null) return tokenizer.readLine();
         String line;
         try {
             line = scanner.nextLine();
@@ -254,6 +282,7 @@ public final class In {
      * @return the next character in this input stream
      */
     public char readChar() {
+        if (tokenizer != null) return tokenizer.readChar();
         scanner.useDelimiter(EMPTY_PATTERN);
         String ch = scanner.next();
         assert ch.length() == 1 : "Internal (Std)In.readChar() error!"
@@ -263,12 +292,30 @@ public final class In {
     }
 
 
+    /**
+     * Reads up to {@code len} characters of this input stream into
+     * {@code cbuf}, starting at {@code off}. Use this to read a large input
+     * in blocks rather than all at once with {@link #readAll()}.
+     *
+     * @return the number of characters read, or -1 at the end of the input
+     */
+    public int read(char[] cbuf, int off, int len) {
+        if (off < 0 || len < 0 || len > cbuf.length - off) throw new IndexOutOfBoundsException();
+        if (tokenizer != null) return tokenizer.read(cbuf, off, len);
+        int n = 0;
+        while (n < len && hasNextChar()) {
+            cbuf[off + n++] = readChar();
+        }
+        return n == 0 && len > 0 ? -1 : n;
+    }
+
     /**
      * Reads and returns the remainder of this input stream, as a string.
      *
      * @return the remainder of this input stream, as a string
      */
     public String readAll() {
+        if (tokenizer != null) return tokenizer.readAll();
         if (!scanner.hasNextLine())
             return "";
 
@@ -285,6 +332,7 @@ public final class In {
      * @return the next <tt>String</tt> in this input stream
      */
     public String readString() {
+        if (tokenizer != null) return tokenizer.readString();
         return scanner.next();
     }
 
@@ -295,6 +343,7 @@ public final class In {
      * @return the next <tt>int</tt> in this input stream
      */
     public int readInt() {
+        if (tokenizer != null) return tokenizer.readInt();
         return scanner.nextInt();
     }
 
@@ -305,6 +354,7 @@ public final class In {
      * @return the next <tt>double</tt> in this input stream
      */
     public double readDouble() {
+        if (tokenizer != null) return tokenizer.readDouble();
         return scanner.nextDouble();
     }
 
@@ -315,6 +365,7 @@ public final class In {
      * @return the next <tt>float</tt> in this input stream
      */
     public float readFloat() {
+        if (tokenizer != null) return tokenizer.readFloat();
         return scanner.nextFloat();
     }
 
@@ -325,6 +376,7 @@ public final class In {
      * @return the next <tt>long</tt> in this input stream
      */
     public long readLong() {
+        if (tokenizer != null) return tokenizer.readLong();
         return scanner.nextLong();
     }
 
@@ -335,6 +387,7 @@ public final class In {
      * @return the next <tt>short</tt> in this input stream
      */
     public short readShort() {
+        if (tokenizer != null) return tokenizer.readShort();
         return scanner.nextShort();
     }
 
@@ -347,6 +400,7 @@ public final class In {
      * @return the next <tt>byte</tt> in this input stream
      */
     public byte readByte() {
+        if (tokenizer != null) return tokenizer.readByte();
         return scanner.nextByte();
     }
 
@@ -433,7 +487,8 @@ public final class In {
      * Closes this input stream.
      */
     public void close() {
-        scanner.close();
+        if (tokenizer != null) tokenizer.close();
+        else                   scanner.close();
     }
 
     /**
@@ -0,0 +1,79 @@
+package com.algorithms;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Growable array of {@code int} values with the interface of {@link Bag}.
+ * Items are stored unboxed, iterate in insertion order, and can be read
+ * without allocation through {@link #get(int)}:
+ * <pre>
+ *   for (int i = 0; i < bag.size(); i++) {
+ *       int w = bag.get(i);
+ *   }
+ * </pre>
+ */
+public class IntBag implements Iterable<Integer> {
+    private static final int INIT_CAPACITY = 8;
+
+    private int[] a;    // items in a[0..n)
+    private int n;      // number of elements in bag
+
+    public IntBag() {
+        a = new int[INIT_CAPACITY];
+        n = 0;
+    }
+
+    public boolean isEmpty() {
+        return n == 0;
+    }
+
+    public int size() {
+        return n;
+    }
+
+    public void add(int item) {
+        if (n == a.length) a = Arrays.copyOf(a, 2 * a.length);
+        a[n++] = item;
+    }
+
+    /**
+     * Returns the {@code i}th item in iteration order.
+     */
+    public int get(int i) {
+        if (i < 0 || i >= n) throw new IndexOutOfBoundsException("index " + i + " is not between 0 and " + (n - 1));
+        return a[i];
+    }
+
+    /**
+     * Returns the items as a new array, in iteration order.
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(a, n);
+    }
+
+    /**
+     * Returns an iterator whose {@code nextInt()} does not box.
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        return new ArrayIterator();
+    }
+
+    private class ArrayIterator implements PrimitiveIterator.OfInt {
+        private int i = 0;
+
+        public boolean hasNext() {
+            return i < n;
+        }
+
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        public int nextInt() {
+            if (!hasNext()) throw new NoSuchElementException();
+            return a[i++];
+        }
+    }
+}
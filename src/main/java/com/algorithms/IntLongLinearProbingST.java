@@ -0,0 +1,148 @@
+package com.algorithms;
+
+/**
+ * Linear-probing symbol table specialized to {@code int} keys and {@code long} values.
+ * <p>
+ * The table size is always a power of two, so probes wrap with a mask instead of
+ * {@code %}, and keys are scrambled by a multiplicative mixing hash so sequential
+ * keys do not form long clusters. Key {@code 0} marks an empty slot; the entry
+ * for key {@code 0} itself, if any, is kept outside the arrays. Deletion shifts
+ * the rest of the cluster back, so the table never holds tombstones.
+ */
+public class IntLongLinearProbingST {
+    private static final int INIT_CAPACITY = 4;
+
+    private int n;            // number of key-value pairs in the table, including key 0
+    private int m;            // size of linear-probing table, a power of 2
+    private int mask;         // m - 1
+    private int[] keys;       // the keys, 0 if empty
+    private long[] vals;       // the values
+    private boolean hasZero;  // is key 0 in the table?
+    private long zeroVal;     // value associated with key 0
+
+    public IntLongLinearProbingST() {
+        this(INIT_CAPACITY);
+    }
+
+    public IntLongLinearProbingST(int capacity) {
+        if (capacity < 0) throw new IllegalArgumentException("capacity must be nonnegative");
+        m = Integer.highestOneBit(Math.max(INIT_CAPACITY, capacity) - 1) << 1;
+        mask = m - 1;
+        keys = new int[m];
+        vals = new long[m];
+    }
+
+    public int size() {
+        return n;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public boolean contains(int key) {
+        if (key == 0) return hasZero;
+        for (int i = hash(key); keys[i] != 0; i = (i + 1) & mask) {
+            if (keys[i] == key) return true;
+        }
+        return false;
+    }
+
+    private int hash(int key) {
+        int h = key * 0x9e3779b9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    // rehashes straight into the new arrays, without a temporary table
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        long[] oldVals = vals;
+        m = capacity;
+        mask = m - 1;
+        keys = new int[m];
+        vals = new long[m];
+        for (int j = 0; j < oldKeys.length; j++) {
+            int key = oldKeys[j];
+            if (key == 0) continue;
+            int i = hash(key);
+            while (keys[i] != 0) {
+                i = (i + 1) & mask;
+            }
+            keys[i] = key;
+            vals[i] = oldVals[j];
+        }
+    }
+
+    public void put(int key, long val) {
+        if (key == 0) {
+            if (!hasZero) n++;
+            hasZero = true;
+            zeroVal = val;
+            return;
+        }
+        if (n >= m / 2) resize(2 * m);
+        int i;
+        for (i = hash(key); keys[i] != 0; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                vals[i] = val;
+                return;
+            }
+        }
+        keys[i] = key;
+        vals[i] = val;
+        n++;
+    }
+
+    /**
+     * Returns the value associated with {@code key}, or {@code 0} if the key is
+     * not in the table; use {@link #contains(int)} to tell the two apart.
+     */
+    public long get(int key) {
+        if (key == 0) return zeroVal;
+        for (int i = hash(key); keys[i] != 0; i = (i + 1) & mask) {
+            if (keys[i] == key) return vals[i];
+        }
+        return 0;
+    }
+
+    public void delete(int key) {
+        if (key == 0) {
+            if (hasZero) n--;
+            hasZero = false;
+            zeroVal = 0;
+            return;
+        }
+        int i = hash(key);
+        while (keys[i] != key) {
+            if (keys[i] == 0) return;
+            i = (i + 1) & mask;
+        }
+
+        // shift later members of the cluster back into the hole, unless that
+        // would move them in front of their own hash position
+        int j = i;
+        while (true) {
+            j = (j + 1) & mask;
+            if (keys[j] == 0) break;
+            int h = hash(keys[j]);
+            if (((j - h) & mask) >= ((j - i) & mask)) {
+                keys[i] = keys[j];
+                vals[i] = vals[j];
+                i = j;
+            }
+        }
+        keys[i] = 0;
+        vals[i] = 0;
+        n--;
+        if (n > 0 && n <= m / 8 && m > INIT_CAPACITY) resize(m / 2);
+    }
+
+    public Iterable<Integer> keys() {
+        Queue<Integer> queue = new Queue<>();
+        if (hasZero) queue.enqueue(0);
+        for (int i = 0; i < m; i++) {
+            if (keys[i] != 0) queue.enqueue(keys[i]);
+        }
+        return queue;
+    }
+}
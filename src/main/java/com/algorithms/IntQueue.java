@@ -0,0 +1,136 @@
+package com.algorithms;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * FIFO queue of {@code int} values in a resizing ring buffer, with the
+ * interface of {@link Queue}. Items are stored unboxed, and can be read
+ * without allocation through {@link #get(int)}.
+ */
+public class IntQueue implements Iterable<Integer> {
+    private static final int INIT_CAPACITY = 8;
+
+    private int[] q;       // queue elements
+    private int n;         // number of elements on queue
+    private int first;     // index of first element of queue
+    private int last;      // index of next available slot
+
+    public IntQueue() {
+        this(INIT_CAPACITY);
+    }
+
+    /**
+     * Initializes an empty queue with room for {@code capacity} items before it grows.
+     */
+    public IntQueue(int capacity) {
+        q = new int[Math.max(1, capacity)];
+        n = 0;
+        first = 0;
+        last = 0;
+    }
+
+    /**
+     * Returns true if this queue is empty.
+     *
+     * @return {@code true} if the queue is empty; {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return n == 0;
+    }
+
+    /**
+     * Returns the number of items in this queue.
+     */
+    public int size() {
+        return n;
+    }
+
+    // moves the elements to a new array of the given size, unwrapping the ring
+    private void resize(int capacity) {
+        int[] temp = new int[capacity];
+        for (int i = 0; i < n; i++) {
+            temp[i] = q[(first + i) % q.length];
+        }
+        q = temp;
+        first = 0;
+        last = n;
+    }
+
+    /**
+     * Returns the item least recently added to this queue.
+     */
+    public int peek() {
+        if (isEmpty())
+            throw new NoSuchElementException("Queue underflow");
+        return q[first];
+    }
+
+    /**
+     * Adds the item to this queue.
+     */
+    public void enqueue(int item) {
+        if (n == q.length) resize(2 * q.length);
+        q[last++] = item;
+        if (last == q.length) last = 0;
+        n++;
+    }
+
+    /**
+     * Removes and returns the item on this queue that was least recently added.
+     */
+    public int dequeue() {
+        if (isEmpty())
+            throw new NoSuchElementException("Queue underflow");
+        int item = q[first++];
+        if (first == q.length) first = 0;
+        n--;
+        if (n > 0 && n == q.length / 4 && q.length > INIT_CAPACITY) resize(q.length / 2);
+        return item;
+    }
+
+    /**
+     * Returns the {@code i}th item in FIFO order, without removing it.
+     */
+    public int get(int i) {
+        if (i < 0 || i >= n) throw new IndexOutOfBoundsException("index " + i + " is not between 0 and " + (n - 1));
+        int j = first + i;
+        return q[j < q.length ? j : j - q.length];
+    }
+
+    /**
+     * Returns a string representation of this queue.
+     */
+    public String toString() {
+        StringBuilder s = new StringBuilder();
+        for (int i = 0; i < n; i++)
+            s.append(get(i) + " ");
+        return s.toString();
+    }
+
+    /**
+     * Returns an iterator that iterates over the items in this queue in FIFO order;
+     * its {@code nextInt()} does not box.
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        return new ArrayIterator();
+    }
+
+    private class ArrayIterator implements PrimitiveIterator.OfInt {
+        private int i = 0;
+
+        public boolean hasNext() {
+            return i < n;
+        }
+
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        public int nextInt() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            return get(i++);
+        }
+    }
+}
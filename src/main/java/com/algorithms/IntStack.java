@@ -0,0 +1,96 @@
+package com.algorithms;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * LIFO stack of {@code int} values in a resizing array, with the interface of
+ * {@link Stack}. Items are stored unboxed, and can be read without allocation
+ * through {@link #get(int)}.
+ */
+public class IntStack implements Iterable<Integer> {
+  private static final int INIT_CAPACITY = 8;
+
+  private int[] a; // a[0..n) with the top of the stack at a[n-1]
+  private int n; // size of the stack
+
+  public IntStack() {
+    a = new int[INIT_CAPACITY];
+    n = 0;
+  }
+
+  public boolean isEmpty() {
+    return n == 0;
+  }
+
+  public int size() {
+    return n;
+  }
+
+  public void push(int item) {
+    if (n == a.length) a = Arrays.copyOf(a, 2 * a.length);
+    a[n++] = item;
+  }
+
+  public int pop() {
+    if (isEmpty()) {
+      throw new NoSuchElementException("Stack underflow");
+    }
+    int item = a[--n];
+    if (n > 0 && n == a.length / 4 && a.length > INIT_CAPACITY) a = Arrays.copyOf(a, a.length / 2);
+    return item;
+  }
+
+  public int peek() {
+    if (isEmpty()) {
+      throw new NoSuchElementException("Stack underflow");
+    }
+    return a[n - 1];
+  }
+
+  /**
+   * Returns the {@code i}th item in LIFO order ({@code get(0)} is the top), without removing it.
+   */
+  public int get(int i) {
+    if (i < 0 || i >= n) {
+      throw new IndexOutOfBoundsException("index " + i + " is not between 0 and " + (n - 1));
+    }
+    return a[n - 1 - i];
+  }
+
+  public String toString() {
+    StringBuilder s = new StringBuilder();
+    for (int i = 0; i < n; i++) {
+      s.append(get(i) + " ");
+    }
+    return s.toString();
+  }
+
+  /**
+   * Returns an iterator that iterates over the items in LIFO order; its {@code nextInt()} does not
+   * box.
+   */
+  public PrimitiveIterator.OfInt iterator() {
+    return new ArrayIterator();
+  }
+
+  private class ArrayIterator implements PrimitiveIterator.OfInt {
+    private int i = n;
+
+    public boolean hasNext() {
+      return i > 0;
+    }
+
+    public void remove() {
+      throw new UnsupportedOperationException();
+    }
+
+    public int nextInt() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      return a[--i];
+    }
+  }
+}
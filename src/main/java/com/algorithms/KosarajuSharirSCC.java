@@ -9,7 +9,23 @@ public class KosarajuSharirSCC {
     marked = new boolean[G.V()];
     id = new int[G.V()];
     DepthFirstOrder order = new DepthFirstOrder(G.reverse());
-    for (int s : order.reversePost()) {
+    IntStack reversePost = order.reversePostInts();
+    for (int i = 0; i < reversePost.size(); i++) {
+      int s = reversePost.get(i);
+      if (!marked[s]) {
+        dfs(G, s);
+        count++;
+      }
+    }
+  }
+
+  public KosarajuSharirSCC(CSRDigraph G) {
+    marked = new boolean[G.V()];
+    id = new int[G.V()];
+    DepthFirstOrder order = new DepthFirstOrder(G.reverse());
+    IntStack reversePost = order.reversePostInts();
+    for (int i = 0; i < reversePost.size(); i++) {
+      int s = reversePost.get(i);
       if (!marked[s]) {
         dfs(G, s);
         count++;
@@ -25,6 +41,15 @@ public class KosarajuSharirSCC {
     }
   }
 
+  private void dfs(CSRDigraph G, int v) {
+    marked[v] = true;
+    id[v] = count;
+    for (int i = G.begin(v); i < G.end(v); i++) {
+      int w = G.target(i);
+      if (!marked[w]) dfs(G, w);
+    }
+  }
+
   public boolean stronglyConnected(int v, int w) {
     return id[v] == id[w];
   }
@@ -0,0 +1,189 @@
+package com.algorithms;
+
+import java.util.function.ToIntFunction;
+
+/**
+ * Least-significant-digit-first radix sort of {@code int} and {@code long}
+ * keys, one byte per pass, with no comparisons at all. The most significant
+ * byte has its sign bit flipped, so negative keys sort before positive ones.
+ * A pass is skipped when every key has the same byte in that position, so
+ * keys in a small range (say, ids below 2^16) take two passes, not four.
+ * Arrays of at most {@code CUTOFF} keys are insertion sorted instead.
+ * <p>
+ * {@code sort(a, key)} sorts objects by an {@code int} key extracted once per
+ * object; like every LSD sort it is stable.
+ */
+public class LSD {
+    private static final int BITS_PER_BYTE = 8;
+    private static final int R = 1 << BITS_PER_BYTE;    // radix
+    private static final int MASK = R - 1;
+    private static final int CUTOFF = 64;                // insertion sort arrays up to this size
+
+    private LSD() { }
+
+    public static void sort(int[] a) {
+        int n = a.length;
+        if (n <= CUTOFF) {
+            insertion(a);
+            return;
+        }
+        int[] aux = new int[n];
+        int[] src = a;
+        int[] dst = aux;
+        for (int d = 0; d < 4; d++) {
+            int shift = BITS_PER_BYTE * d;
+            int flip = d == 3 ? 0x80 : 0;   // sign bit of the most significant byte
+
+            int[] count = new int[R + 1];
+            for (int i = 0; i < n; i++) {
+                count[digit(src[i], shift, flip) + 1]++;
+            }
+            if (count[digit(src[0], shift, flip) + 1] == n) continue;
+
+            for (int r = 0; r < R; r++) {
+                count[r + 1] += count[r];
+            }
+            for (int i = 0; i < n; i++) {
+                dst[count[digit(src[i], shift, flip)]++] = src[i];
+            }
+            int[] t = src; src = dst; dst = t;
+        }
+        if (src != a) System.arraycopy(src, 0, a, 0, n);
+    }
+
+    public static void sort(long[] a) {
+        int n = a.length;
+        if (n <= CUTOFF) {
+            insertion(a);
+            return;
+        }
+        long[] aux = new long[n];
+        long[] src = a;
+        long[] dst = aux;
+        for (int d = 0; d < 8; d++) {
+            int shift = BITS_PER_BYTE * d;
+            int flip = d == 7 ? 0x80 : 0;
+
+            int[] count = new int[R + 1];
+            for (int i = 0; i < n; i++) {
+                count[digit(src[i], shift, flip) + 1]++;
+            }
+            if (count[digit(src[0], shift, flip) + 1] == n) continue;
+
+            for (int r = 0; r < R; r++) {
+                count[r + 1] += count[r];
+            }
+            for (int i = 0; i < n; i++) {
+                dst[count[digit(src[i], shift, flip)]++] = src[i];
+            }
+            long[] t = src; src = dst; dst = t;
+        }
+        if (src != a) System.arraycopy(src, 0, a, 0, n);
+    }
+
+    /**
+     * Rearranges the array so that {@code key} of the items is ascending,
+     * keeping items with equal keys in their original order.
+     */
+    public static <T> void sort(T[] a, ToIntFunction<? super T> key) {
+        int n = a.length;
+        int[] keys = new int[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = key.applyAsInt(a[i]);
+        }
+        if (n <= CUTOFF) {
+            for (int i = 1; i < n; i++) {
+                int k = keys[i];
+                T t = a[i];
+                int j = i;
+                for (; j > 0 && k < keys[j - 1]; j--) {
+                    keys[j] = keys[j - 1];
+                    a[j] = a[j - 1];
+                }
+                keys[j] = k;
+                a[j] = t;
+            }
+            return;
+        }
+        Object[] src = a.clone();
+        Object[] dst = new Object[n];
+        int[] srcKeys = keys;
+        int[] dstKeys = new int[n];
+        for (int d = 0; d < 4; d++) {
+            int shift = BITS_PER_BYTE * d;
+            int flip = d == 3 ? 0x80 : 0;
+
+            int[] count = new int[R + 1];
+            for (int i = 0; i < n; i++) {
+                count[digit(srcKeys[i], shift, flip) + 1]++;
+            }
+            if (count[digit(srcKeys[0], shift, flip) + 1] == n) continue;
+
+            for (int r = 0; r < R; r++) {
+                count[r + 1] += count[r];
+            }
+            for (int i = 0; i < n; i++) {
+                int j = count[digit(srcKeys[i], shift, flip)]++;
+                dst[j] = src[i];
+                dstKeys[j] = srcKeys[i];
+            }
+            Object[] t = src; src = dst; dst = t;
+            int[] tk = srcKeys; srcKeys = dstKeys; dstKeys = tk;
+        }
+        System.arraycopy(src, 0, a, 0, n);
+    }
+
+    // the byte of x at the given shift, with the bits in flip inverted
+    private static int digit(int x, int shift, int flip) {
+        return ((x >>> shift) & MASK) ^ flip;
+    }
+
+    private static int digit(long x, int shift, int flip) {
+        return ((int) (x >>> shift) & MASK) ^ flip;
+    }
+
+    private static void insertion(int[] a) {
+        for (int i = 1; i < a.length; i++) {
+            int t = a[i];
+            int j = i;
+            for (; j > 0 && t < a[j - 1]; j--) {
+                a[j] = a[j - 1];
+            }
+            a[j] = t;
+        }
+    }
+
+    private static void insertion(long[] a) {
+        for (int i = 1; i < a.length; i++) {
+            long t = a[i];
+            int j = i;
+            for (; j > 0 && t < a[j - 1]; j--) {
+                a[j] = a[j - 1];
+            }
+            a[j] = t;
+        }
+    }
+
+    public static boolean isSorted(int[] a) {
+        for (int i = 1; i < a.length; i++) {
+            if (a[i] < a[i - 1]) return false;
+        }
+        return true;
+    }
+
+    public static boolean isSorted(long[] a) {
+        for (int i = 1; i < a.length; i++) {
+            if (a[i] < a[i - 1]) return false;
+        }
+        return true;
+    }
+
+    public static void main(String[] args) {
+        int[] a = StdIn.readAllInts();
+        sort(a);
+        assert isSorted(a);
+        for (int x : a) {
+            StdOut.println(x);
+        }
+    }
+}
@@ -0,0 +1,344 @@
+package com.algorithms;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * {@link IndexMinPQ} specialized to primitive {@code long} keys: keys are stored unboxed and
+ * compared with {@code <}, so inserting or changing a key allocates nothing. See {@link
+ * DoubleIndexMinPQ} for the {@code double} version.
+ * <p>
+ * The heap is {@code d}-ary: every node has up to {@code d} children. The default is the classic
+ * binary heap; a 4-ary heap is shallower, so {@code insert} and {@code decreaseKey} take fewer
+ * steps, and the four children of a node sit next to each other in memory, which tends to pay off
+ * for heaps larger than the cache.
+ */
+public class LongIndexMinPQ implements Iterable<Integer> {
+  private int maxN; // maximum number of elements on PQ
+  private int n; // number of elements on PQ
+  private final int d; // number of children per node
+  private int[] pq; // d-ary heap using 1-based indexing
+  private int[] qp; // inverse of pq - qp[pq[i]] = pq[qp[i]] = i
+  private long[] keys; // keys[i] = priority of i
+
+  /**
+   * Initializes an empty indexed priority queue with indices between {@code 0} and {@code maxN -
+   * 1}.
+   *
+   * @param maxN the keys on this priority queue are index from {@code 0} {@code maxN - 1}
+   * @throws IllegalArgumentException if {@code maxN < 0}
+   */
+  public LongIndexMinPQ(int maxN) {
+    this(maxN, 2);
+  }
+
+  /**
+   * Initializes an empty indexed priority queue with indices between {@code 0} and {@code maxN -
+   * 1}, laid out as a {@code d}-ary heap.
+   *
+   * @param maxN the keys on this priority queue are index from {@code 0} {@code maxN - 1}
+   * @param d the number of children per heap node
+   * @throws IllegalArgumentException if {@code maxN < 0} or {@code d < 2}
+   */
+  public LongIndexMinPQ(int maxN, int d) {
+    if (maxN < 0) throw new IllegalArgumentException();
+    if (d < 2) throw new IllegalArgumentException("heap arity must be at least 2");
+    this.maxN = maxN;
+    this.d = d;
+    n = 0;
+    keys = new long[maxN + 1];
+    pq = new int[maxN + 1];
+    qp = new int[maxN + 1];
+    for (int i = 0; i <= maxN; i++) {
+      qp[i] = -1;
+    }
+  }
+
+  /**
+   * Returns true if this priority queue is empty.
+   *
+   * @return {@code true} if this priority queue is empty; {@code false} otherwise
+   */
+  public boolean isEmpty() {
+    return n == 0;
+  }
+
+  /**
+   * Is {@code i} an index on this priority queue?
+   *
+   * @param i an index
+   * @return {@code true} if {@code i} is an index on this priority queue; {@code false} otherwise
+   * @throws IndexOutOfBoundsException unless {@code 0 <= i < maxN}
+   */
+  public boolean contains(int i) {
+    if (i < 0 || i >= maxN) throw new IndexOutOfBoundsException();
+    return qp[i] != -1;
+  }
+
+  /**
+   * Returns the number of keys on this priority queue.
+   *
+   * @return the number of keys on this priority queue
+   */
+  public int size() {
+    return n;
+  }
+
+  /**
+   * Removes all keys. Takes time proportional to the number of keys on the queue rather than to
+   * {@code maxN}, so a queue can be reused cheaply across many small searches.
+   */
+  public void clear() {
+    for (int k = 1; k <= n; k++) {
+      qp[pq[k]] = -1;
+    }
+    n = 0;
+  }
+
+  /**
+   * Associates key with index {@code i}.
+   *
+   * @param i an index
+   * @param key the key to associate with index {@code i}
+   * @throws IndexOutOfBoundsException unless {@code 0 <= i < maxN}
+   * @throws IllegalArgumentException if there already is an item associated with index {@code i}.
+   */
+  public void insert(int i, long key) {
+    if (i < 0 || i >= maxN) {
+      throw new IndexOutOfBoundsException();
+    }
+    if (contains(i)) {
+      throw new IllegalArgumentException("index is already in the priority queue");
+    }
+    n++;
+    qp[i] = n;
+    pq[n] = i;
+    keys[i] = key;
+    swim(n);
+  }
+
+  /**
+   * Returns an index associated with a minimum key.
+   *
+   * @return an index associated with a minimum key
+   * @throws NoSuchElementException if this priority queue is empty
+   */
+  public int minIndex() {
+    if (n == 0) {
+      throw new NoSuchElementException("Priority queue underflow");
+    }
+    return pq[1];
+  }
+
+  /**
+   * Returns a minimum key.
+   *
+   * @return a minimum key
+   * @throws NoSuchElementException if this priority queue is empty
+   */
+  public long minKey() {
+    if (n == 0) {
+      throw new NoSuchElementException("Priority queue underflow");
+    }
+    return keys[pq[1]];
+  }
+
+  /**
+   * Removes a minimum key and returns its associated index.
+   *
+   * @return an index associated with a minimum key
+   * @throws NoSuchElementException if this priority queue is empty
+   */
+  public int delMin() {
+    if (n == 0) {
+      throw new NoSuchElementException("Priority queue underflow");
+    }
+    int min = pq[1];
+    exch(1, n--);
+    sink(1);
+    qp[min] = -1; // delete
+    return min;
+  }
+
+  /**
+   * Returns the key associated with index {@code i}.
+   *
+   * @param i the index of the key to return
+   * @return the key associated with index {@code i}
+   * @throws NoSuchElementException no key is associated with index {@code i}
+   */
+  public long keyOf(int i) {
+    if (i < 0 || i >= maxN) {
+      throw new IndexOutOfBoundsException();
+    }
+    if (!contains(i)) {
+      throw new NoSuchElementException("index is not in the priority queue");
+    }
+    return keys[i];
+  }
+
+  /**
+   * Change the key associated with index {@code i} to the specified value.
+   *
+   * @param i the index of the key to change
+   * @param key change the key associated with index {@code i} to this key
+   * @throws IndexOutOfBoundsException unless {@code 0 <= i < maxN}
+   */
+  public void changeKey(int i, long key) {
+    if (i < 0 || i >= maxN) {
+      throw new IndexOutOfBoundsException();
+    }
+    if (!contains(i)) {
+      throw new NoSuchElementException("index is not in the priority queue");
+    }
+    keys[i] = key;
+    swim(qp[i]);
+    sink(qp[i]);
+  }
+
+  /** Decrease the key associated with index {@code i} to the specified value. */
+  public void decreaseKey(int i, long key) {
+    if (i < 0 || i >= maxN) {
+      throw new IndexOutOfBoundsException("index is not in the priority queue");
+    }
+    if (!contains(i)) {
+      throw new NoSuchElementException("index is not in the priority queue");
+    }
+    if (key >= keys[i]) {
+      throw new IllegalArgumentException(
+          "Calling decreaseKey() with given argument would not strictly decrease the key");
+    }
+    keys[i] = key;
+    swim(qp[i]);
+  }
+
+  /** Increase the key associated with index {@code i} to the specified value. */
+  public void increaseKey(int i, long key) {
+    if (i < 0 || i >= maxN) {
+      throw new IndexOutOfBoundsException();
+    }
+    if (!contains(i)) {
+      throw new NoSuchElementException("index is not in the priority queue");
+    }
+    if (key <= keys[i]) {
+      throw new IllegalArgumentException(
+          "Calling increaseKey() with given argument would not strictly increase the key");
+    }
+    keys[i] = key;
+    sink(qp[i]);
+  }
+
+  /** Remove the key associated with index {@code i}. */
+  public void delete(int i) {
+    if (i < 0 || i >= maxN) {
+      throw new IndexOutOfBoundsException();
+    }
+    if (!contains(i)) {
+      throw new NoSuchElementException("index is not in the priority queue");
+    }
+    int index = qp[i];
+    exch(index, n--);
+    swim(index);
+    sink(index);
+    qp[i] = -1;
+  }
+
+  /** General helper functions. */
+  private boolean greater(int i, int j) {
+    return keys[pq[i]] > keys[pq[j]];
+  }
+
+  private void exch(int i, int j) {
+    int swap = pq[i];
+    pq[i] = pq[j];
+    pq[j] = swap;
+    qp[pq[i]] = i;
+    qp[pq[j]] = j;
+  }
+
+  /**
+   * Heap helper functions. The children of node {@code k} are {@code d(k-1)+2} through {@code
+   * dk+1}, which for {@code d = 2} are the familiar {@code 2k} and {@code 2k+1}.
+   */
+  private void swim(int k) {
+    while (k > 1) {
+      int parent = (k - 2) / d + 1;
+      if (!greater(parent, k)) break;
+      exch(k, parent);
+      k = parent;
+    }
+  }
+
+  private void sink(int k) {
+    while (true) {
+      int first = d * (k - 1) + 2;
+      if (first > n) break;
+      int last = Math.min(first + d - 1, n);
+      int j = first;
+      for (int c = first + 1; c <= last; c++) {
+        if (greater(j, c)) j = c;
+      }
+      if (!greater(k, j)) break;
+      exch(k, j);
+      k = j;
+    }
+  }
+
+  /** Iterators. */
+  @Override
+  public Iterator<Integer> iterator() {
+    return new HeapIterator();
+  }
+
+  private class HeapIterator implements Iterator<Integer> {
+    private LongIndexMinPQ copy;
+
+    public HeapIterator() {
+      copy = new LongIndexMinPQ(maxN, d);
+      for (int i = 1; i <= n; i++) {
+        copy.insert(pq[i], keys[pq[i]]);
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return !copy.isEmpty();
+    }
+
+    public void remove() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Integer next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      return copy.delMin();
+    }
+  }
+
+  public static void main(String[] args) {
+    long[] keys = {50, 25, 75, 12, 62, 37, 87, 0, 100, 25};
+
+    LongIndexMinPQ pq = new LongIndexMinPQ(keys.length, 4);
+    for (int i = 0; i < keys.length; i++) {
+      pq.insert(i, keys[i]);
+    }
+
+    while (!pq.isEmpty()) {
+      int i = pq.delMin();
+      StdOut.println(i + " " + keys[i]);
+    }
+    StdOut.println();
+
+    for (int i = 0; i < keys.length; i++) {
+      pq.insert(i, keys[i]);
+    }
+
+    for (int i : pq) {
+      StdOut.println(i + " " + keys[i]);
+    }
+    pq.clear();
+  }
+}
@@ -0,0 +1,112 @@
+package com.algorithms;
+
+/**
+ * Most-significant-digit-first radix sort of strings over extended ASCII
+ * (chars below 256): strings are distributed on their d-th char by
+ * key-indexed counting, and every bucket recursively on the next char.
+ * Subarrays of at most {@code CUTOFF} strings are insertion sorted starting
+ * from the current char, since 256 counters would dominate their cost. For
+ * strings with long common prefixes or other alphabets see
+ * {@link Quick3string}.
+ */
+public class MSD {
+    private static final int BITS_PER_BYTE = 8;
+    private static final int R = 1 << BITS_PER_BYTE;    // extended ASCII alphabet size
+    private static final int CUTOFF = 15;                // cutoff to insertion sort
+
+    private MSD() { }
+
+    /**
+     * Rearranges the array of extended ASCII strings in ascending order.
+     *
+     * @throws IllegalArgumentException if a string has a char of 256 or more
+     */
+    public static void sort(String[] a) {
+        // check every char up front, so a bad one leaves the array untouched
+        for (String s : a) {
+            for (int i = 0; i < s.length(); i++) {
+                int c = s.charAt(i);
+                if (c >= R) throw new IllegalArgumentException("char " + c + " of \"" + s + "\" is not extended ASCII");
+            }
+        }
+        int n = a.length;
+        String[] aux = new String[n];
+        sort(a, 0, n - 1, 0, aux);
+    }
+
+    // return dth character of s, -1 if d = length of string
+    private static int charAt(String s, int d) {
+        if (d == s.length()) return -1;
+        return s.charAt(d);
+    }
+
+    // sort from a[lo] to a[hi], starting at the dth character
+    private static void sort(String[] a, int lo, int hi, int d, String[] aux) {
+        if (hi <= lo + CUTOFF) {
+            insertion(a, lo, hi, d);
+            return;
+        }
+
+        // compute frequency counts; strings that end at d go to count[1]
+        int[] count = new int[R + 2];
+        for (int i = lo; i <= hi; i++) {
+            count[charAt(a[i], d) + 2]++;
+        }
+
+        // transform counts to indices
+        for (int r = 0; r < R + 1; r++) {
+            count[r + 1] += count[r];
+        }
+
+        // distribute
+        for (int i = lo; i <= hi; i++) {
+            aux[count[charAt(a[i], d) + 1]++] = a[i];
+        }
+
+        // copy back
+        System.arraycopy(aux, 0, a, lo, hi - lo + 1);
+
+        // recursively sort for each character (excludes sentinel -1)
+        for (int r = 0; r < R; r++) {
+            sort(a, lo + count[r], lo + count[r + 1] - 1, d + 1, aux);
+        }
+    }
+
+    // insertion sort a[lo..hi], starting at dth character
+    private static void insertion(String[] a, int lo, int hi, int d) {
+        for (int i = lo; i <= hi; i++) {
+            for (int j = i; j > lo && less(a[j], a[j - 1], d); j--) {
+                exch(a, j, j - 1);
+            }
+        }
+    }
+
+    // is v less than w, starting at character d
+    private static boolean less(String v, String w, int d) {
+        for (int i = d; i < Math.min(v.length(), w.length()); i++) {
+            if (v.charAt(i) < w.charAt(i)) return true;
+            if (v.charAt(i) > w.charAt(i)) return false;
+        }
+        return v.length() < w.length();
+    }
+
+    private static void exch(String[] a, int i, int j) {
+        String t = a[i]; a[i] = a[j]; a[j] = t;
+    }
+
+    public static boolean isSorted(String[] a) {
+        for (int i = 1; i < a.length; i++) {
+            if (a[i].compareTo(a[i - 1]) < 0) return false;
+        }
+        return true;
+    }
+
+    public static void main(String[] args) {
+        String[] a = StdIn.readAllStrings();
+        sort(a);
+        assert isSorted(a);
+        for (String s : a) {
+            StdOut.println(s);
+        }
+    }
+}
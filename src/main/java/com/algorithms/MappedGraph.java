@@ -0,0 +1,347 @@
+package com.algorithms;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Read-only graph served straight from a memory-mapped binary file, so loading
+ * costs no parsing and the adjacency data lives in the page cache rather than
+ * on the Java heap. The static {@code write} methods produce the file from any
+ * of the in-memory graph types.
+ * <p>
+ * File layout (big-endian), version 1:
+ * <pre>
+ *   int    magic    0x414c4747 ("ALGG")
+ *   int    version  1
+ *   int    flags    bit 0: directed, bit 1: weighted
+ *   int    V
+ *   long   E
+ *   long   N        number of adjacency entries (2E if undirected, E if directed)
+ *   long[V + 1]     offsets: entries of v are [offsets[v], offsets[v + 1])
+ *   int[N]          targets
+ *   (pad to a multiple of 8 bytes)
+ *   double[N]       weights, only if weighted
+ * </pre>
+ * Adjacency lists are stored in the order the source graph iterates them.
+ */
+public class MappedGraph {
+    private static final int MAGIC = 0x414c4747;
+    private static final int VERSION = 1;
+    private static final int DIRECTED = 1;
+    private static final int WEIGHTED = 2;
+    private static final int HEADER_BYTES = 32;
+
+    // files are mapped in 1 GB segments; every field is aligned to its size,
+    // so no field straddles two segments
+    private static final int SEGMENT_BITS = 30;
+    private static final long SEGMENT_MASK = (1L << SEGMENT_BITS) - 1;
+
+    private final MappedByteBuffer[] segments;
+    private final int V;
+    private final long E;
+    private final long N;
+    private final boolean directed;
+    private final boolean weighted;
+    private final long offsetsAt;   // file position of offsets[0]
+    private final long targetsAt;   // file position of targets[0]
+    private final long weightsAt;   // file position of weights[0]
+
+    /**
+     * Maps the graph file with the given name.
+     *
+     * @throws IllegalArgumentException if the file is not a graph file of a known version
+     * @throws UncheckedIOException if the file cannot be read
+     */
+    public MappedGraph(String filename) {
+        try (RandomAccessFile file = new RandomAccessFile(filename, "r");
+             FileChannel channel = file.getChannel()) {
+            long size = channel.size();
+            if (size < HEADER_BYTES) {
+                throw new IllegalArgumentException(filename + " is not a graph file");
+            }
+            int count = (int) ((size + SEGMENT_MASK) >>> SEGMENT_BITS);
+            segments = new MappedByteBuffer[count];
+            for (int k = 0; k < count; k++) {
+                long start = (long) k << SEGMENT_BITS;
+                segments[k] = channel.map(FileChannel.MapMode.READ_ONLY, start,
+                                          Math.min(size - start, 1L << SEGMENT_BITS));
+            }
+            if (getInt(0) != MAGIC) {
+                throw new IllegalArgumentException(filename + " is not a graph file");
+            }
+            if (getInt(4) != VERSION) {
+                throw new IllegalArgumentException("Unsupported graph file version " + getInt(4));
+            }
+            int flags = getInt(8);
+            directed = (flags & DIRECTED) != 0;
+            weighted = (flags & WEIGHTED) != 0;
+            V = getInt(12);
+            E = getLong(16);
+            N = getLong(24);
+            offsetsAt = HEADER_BYTES;
+            targetsAt = offsetsAt + 8L * (V + 1);
+            weightsAt = align(targetsAt + 4L * N);
+            long expected = weighted ? weightsAt + 8L * N : targetsAt + 4L * N;
+            if (V < 0 || N < 0 || size < expected) {
+                throw new IllegalArgumentException(filename + " is truncated or corrupt");
+            }
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException("Could not open " + filename, e);
+        }
+    }
+
+    private static long align(long position) {
+        return (position + 7) & ~7L;
+    }
+
+    private int getInt(long position) {
+        return segments[(int) (position >>> SEGMENT_BITS)].getInt((int) (position & SEGMENT_MASK));
+    }
+
+    private long getLong(long position) {
+        return segments[(int) (position >>> SEGMENT_BITS)].getLong((int) (position & SEGMENT_MASK));
+    }
+
+    private double getDouble(long position) {
+        return segments[(int) (position >>> SEGMENT_BITS)].getDouble((int) (position & SEGMENT_MASK));
+    }
+
+    private void validateVertex(int v) {
+        if (v < 0 || v >= V) {
+            throw new IndexOutOfBoundsException("vertex " + v + " is not between 0 and " + (V - 1));
+        }
+    }
+
+    public int V() {
+        return V;
+    }
+
+    public long E() {
+        return E;
+    }
+
+    public boolean isDirected() {
+        return directed;
+    }
+
+    public boolean isWeighted() {
+        return weighted;
+    }
+
+    /**
+     * Returns the number of entries in the adjacency list of {@code v}
+     * (the outdegree, for a directed graph).
+     */
+    public int degree(int v) {
+        validateVertex(v);
+        return (int) (end(v) - begin(v));
+    }
+
+    /**
+     * Returns the index of the first adjacency entry of {@code v}.
+     */
+    public long begin(int v) {
+        return getLong(offsetsAt + 8L * v);
+    }
+
+    /**
+     * Returns one past the index of the last adjacency entry of {@code v}.
+     */
+    public long end(int v) {
+        return getLong(offsetsAt + 8L * (v + 1));
+    }
+
+    /**
+     * Returns the vertex of adjacency entry {@code i}.
+     */
+    public int target(long i) {
+        return getInt(targetsAt + 4L * i);
+    }
+
+    /**
+     * Returns the weight of adjacency entry {@code i}.
+     *
+     * @throws UnsupportedOperationException if the graph is unweighted
+     */
+    public double weight(long i) {
+        if (!weighted) throw new UnsupportedOperationException("graph is unweighted");
+        return getDouble(weightsAt + 8L * i);
+    }
+
+    /**
+     * Returns the vertices adjacent to {@code v}, read from the mapped file as
+     * the iteration proceeds.
+     */
+    public Iterable<Integer> adj(int v) {
+        validateVertex(v);
+        final long from = begin(v);
+        final long to = end(v);
+        return new Iterable<Integer>() {
+            public Iterator<Integer> iterator() {
+                return new Iterator<Integer>() {
+                    private long i = from;
+
+                    public boolean hasNext() {
+                        return i < to;
+                    }
+
+                    public Integer next() {
+                        if (!hasNext()) throw new NoSuchElementException();
+                        return target(i++);
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Writes {@code G} to the named file as an undirected, unweighted graph.
+     */
+    public static void write(Graph G, String filename) {
+        long[] offsets = new long[G.V() + 1];
+        for (int v = 0; v < G.V(); v++) {
+            long degree = 0;
+            for (int w : G.adj(v)) degree++;
+            offsets[v + 1] = offsets[v] + degree;
+        }
+        try (DataOutputStream out = open(filename)) {
+            writeHeader(out, 0, G.V(), G.E(), offsets);
+            for (int v = 0; v < G.V(); v++) {
+                for (int w : G.adj(v)) out.writeInt(w);
+            }
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException("Could not write " + filename, e);
+        }
+    }
+
+    /**
+     * Writes {@code G} to the named file as a directed, unweighted graph.
+     */
+    public static void write(Digraph G, String filename) {
+        long[] offsets = new long[G.V() + 1];
+        for (int v = 0; v < G.V(); v++) {
+            offsets[v + 1] = offsets[v] + G.outdegree(v);
+        }
+        try (DataOutputStream out = open(filename)) {
+            writeHeader(out, DIRECTED, G.V(), G.E(), offsets);
+            for (int v = 0; v < G.V(); v++) {
+                for (int w : G.adj(v)) out.writeInt(w);
+            }
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException("Could not write " + filename, e);
+        }
+    }
+
+    /**
+     * Writes {@code G} to the named file as an undirected, weighted graph.
+     */
+    public static void write(EdgeWeightedGraph G, String filename) {
+        long[] offsets = new long[G.V() + 1];
+        for (int v = 0; v < G.V(); v++) {
+            offsets[v + 1] = offsets[v] + G.degree(v);
+        }
+        try (DataOutputStream out = open(filename)) {
+            writeHeader(out, WEIGHTED, G.V(), G.E(), offsets);
+            for (int v = 0; v < G.V(); v++) {
+                for (Edge e : G.adj(v)) out.writeInt(e.other(v));
+            }
+            pad(out, 4 * offsets[G.V()]);
+            for (int v = 0; v < G.V(); v++) {
+                for (Edge e : G.adj(v)) out.writeDouble(e.weight());
+            }
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException("Could not write " + filename, e);
+        }
+    }
+
+    /**
+     * Writes {@code G} to the named file as an undirected, unweighted graph.
+     */
+    public static void write(CSRGraph G, String filename) {
+        long[] offsets = new long[G.V() + 1];
+        for (int v = 0; v < G.V(); v++) {
+            offsets[v + 1] = G.end(v);
+        }
+        try (DataOutputStream out = open(filename)) {
+            writeHeader(out, 0, G.V(), G.E(), offsets);
+            for (int i = 0; i < offsets[G.V()]; i++) out.writeInt(G.target(i));
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException("Could not write " + filename, e);
+        }
+    }
+
+    /**
+     * Writes {@code G} to the named file as a directed, unweighted graph.
+     */
+    public static void write(CSRDigraph G, String filename) {
+        long[] offsets = new long[G.V() + 1];
+        for (int v = 0; v < G.V(); v++) {
+            offsets[v + 1] = G.end(v);
+        }
+        try (DataOutputStream out = open(filename)) {
+            writeHeader(out, DIRECTED, G.V(), G.E(), offsets);
+            for (int i = 0; i < offsets[G.V()]; i++) out.writeInt(G.target(i));
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException("Could not write " + filename, e);
+        }
+    }
+
+    private static DataOutputStream open(String filename) throws IOException {
+        return new DataOutputStream(new BufferedOutputStream(new FileOutputStream(filename), 1 << 16));
+    }
+
+    private static void writeHeader(DataOutputStream out, int flags, int V, long E, long[] offsets)
+            throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(flags);
+        out.writeInt(V);
+        out.writeLong(E);
+        out.writeLong(offsets[V]);
+        for (long offset : offsets) out.writeLong(offset);
+    }
+
+    // the header and offsets are 8-byte multiples, so only the targets need padding
+    private static void pad(DataOutputStream out, long targetBytes) throws IOException {
+        if (targetBytes % 8 != 0) out.writeInt(0);
+    }
+
+    /**
+     * Converts a text graph to the binary format and prints a summary of the
+     * mapped result. The type is {@code graph}, {@code digraph} or {@code weighted}.
+     */
+    public static void main(String[] args) {
+        String type = args[0];
+        In in = new In(args[1]);
+        String filename = args[2];
+        if      (type.equals("graph"))    write(new Graph(in), filename);
+        else if (type.equals("digraph"))  write(new Digraph(in), filename);
+        else if (type.equals("weighted")) write(new EdgeWeightedGraph(in), filename);
+        else throw new IllegalArgumentException("unknown graph type: " + type);
+
+        MappedGraph G = new MappedGraph(filename);
+        StdOut.println(G.V() + " vertices, " + G.E() + " edges");
+        for (int v = 0; v < Math.min(G.V(), 10); v++) {
+            StdOut.print(v + ": ");
+            for (long i = G.begin(v); i < G.end(v); i++) {
+                if (G.isWeighted()) StdOut.print(G.target(i) + "(" + G.weight(i) + ") ");
+                else                StdOut.print(G.target(i) + " ");
+            }
+            StdOut.println();
+        }
+    }
+}
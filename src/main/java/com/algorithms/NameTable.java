@@ -0,0 +1,94 @@
+package com.algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Table that numbers the distinct names it is given 0, 1, 2, ... in order of
+ * first appearance, for the symbol graphs. Lookups use linear probing over an
+ * {@code int} array of vertex numbers, with each name's hash code kept beside
+ * it, so a probe compares ints before it compares chars. A name can be looked
+ * up as a region of a longer string, so a line is never split into substrings
+ * just to find names that are already in the table.
+ */
+final class NameTable {
+    private String[] names = new String[16];    // names[v] = name of vertex v
+    private int[] hashes = new int[16];         // hashes[v] = names[v].hashCode()
+    private int[] slots = new int[32];          // 1 + vertex whose name is here, or 0 if empty
+    private int mask = 31;
+    private int n;                              // number of names
+
+    static int slot(int h, int mask) {
+        h *= 0x9e3779b9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    // String.hashCode() of s[from, to)
+    static int hash(String s, int from, int to) {
+        int h = 0;
+        for (int i = from; i < to; i++) {
+            h = 31 * h + s.charAt(i);
+        }
+        return h;
+    }
+
+    int size() {
+        return n;
+    }
+
+    /**
+     * Returns the number of the name s[from, to), numbering it first if it is new.
+     */
+    int intern(String s, int from, int to) {
+        int h = hash(s, from, to);
+        int len = to - from;
+        int i = slot(h, mask);
+        for (; slots[i] != 0; i = (i + 1) & mask) {
+            int v = slots[i] - 1;
+            if (hashes[v] == h && names[v].length() == len && s.regionMatches(from, names[v], 0, len)) return v;
+        }
+        if (n == names.length) {
+            names = Arrays.copyOf(names, Math.max(16, 2 * n));
+            hashes = Arrays.copyOf(hashes, Math.max(16, 2 * n));
+        }
+        names[n] = from == 0 && to == s.length() ? s : s.substring(from, to);
+        hashes[n] = h;
+        slots[i] = n + 1;
+        if (++n > slots.length / 2) resize(2 * slots.length);
+        return n - 1;
+    }
+
+    /**
+     * Returns the number of {@code name}, or -1 if it is not in the table.
+     */
+    int indexOf(String name) {
+        int h = name.hashCode();
+        for (int i = slot(h, mask); slots[i] != 0; i = (i + 1) & mask) {
+            int v = slots[i] - 1;
+            if (hashes[v] == h && names[v].equals(name)) return v;
+        }
+        return -1;
+    }
+
+    String name(int v) {
+        if (v < 0 || v >= n) throw new IndexOutOfBoundsException("vertex " + v + " is not between 0 and " + (n - 1));
+        return names[v];
+    }
+
+    /**
+     * Trims the arrays to the number of names, once no more will be added.
+     */
+    void trim() {
+        names = Arrays.copyOf(names, n);
+        hashes = Arrays.copyOf(hashes, n);
+    }
+
+    private void resize(int capacity) {
+        slots = new int[capacity];
+        mask = capacity - 1;
+        for (int v = 0; v < n; v++) {
+            int i = slot(hashes[v], mask);
+            while (slots[i] != 0) i = (i + 1) & mask;
+            slots[i] = v + 1;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.algorithms;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+/**
+ * Parallel Borůvka minimum spanning forest. In each round every component
+ * picks its lightest outgoing edge and all picked edges are added at once,
+ * so the number of components at least halves per round.
+ * <p>
+ * The edge scan of a round runs in parallel over fixed chunks of the edge
+ * array. Each chunk also drops, in place, the edges that now lie inside one
+ * component, so later rounds only look at the edges that can still matter.
+ * Ties in weight are broken by edge index, which keeps the picked edges free
+ * of cycles.
+ */
+public class ParallelBoruvkaMST {
+  private static final int CHUNK = 1 << 14; // edges scanned by one task
+
+  private final Queue<Edge> mst = new Queue<>();
+  private double weight;
+
+  public ParallelBoruvkaMST(EdgeWeightedGraph G) {
+    int V = G.V();
+    Edge[] edges = new Edge[G.E()];
+    int E = 0;
+    for (Edge e : G.edges()) {
+      edges[E++] = e;
+    }
+    int[] from = new int[E];
+    int[] to = new int[E];
+    double[] weights = new double[E];
+    for (int i = 0; i < E; i++) {
+      from[i] = edges[i].either();
+      to[i] = edges[i].other(from[i]);
+      weights[i] = edges[i].weight();
+    }
+
+    // live edges of chunk c are ids[c * CHUNK .. c * CHUNK + live[c])
+    int chunks = (E + CHUNK - 1) / CHUNK;
+    int[] ids = new int[E];
+    int[] live = new int[chunks];
+    for (int i = 0; i < E; i++) {
+      ids[i] = i;
+    }
+    for (int c = 0; c < chunks; c++) {
+      live[c] = Math.min(CHUNK, E - c * CHUNK);
+    }
+
+    UF uf = new UF(V);
+    int[] component = new int[V];
+    AtomicIntegerArray cheapest = new AtomicIntegerArray(V);
+    boolean added = true;
+    while (added && mst.size() < V - 1) {
+      for (int v = 0; v < V; v++) {
+        component[v] = uf.find(v);
+        cheapest.set(v, -1);
+      }
+
+      IntStream.range(0, chunks).parallel().forEach(c -> {
+        int start = c * CHUNK;
+        int n = start;
+        for (int k = start; k < start + live[c]; k++) {
+          int e = ids[k];
+          int cv = component[from[e]];
+          int cw = component[to[e]];
+          if (cv == cw) continue;
+          ids[n++] = e;
+          offer(cheapest, cv, e, weights);
+          offer(cheapest, cw, e, weights);
+        }
+        live[c] = n - start;
+      });
+
+      added = false;
+      for (int v = 0; v < V; v++) {
+        int e = cheapest.get(v);
+        if (e < 0 || uf.connected(from[e], to[e])) continue;
+        uf.union(from[e], to[e]);
+        mst.enqueue(edges[e]);
+        weight += weights[e];
+        added = true;
+      }
+    }
+  }
+
+  // makes edge e the cheapest edge of component c if it is lighter than the current one
+  private static void offer(AtomicIntegerArray cheapest, int c, int e, double[] weights) {
+    while (true) {
+      int current = cheapest.get(c);
+      if (current >= 0 && !lighter(e, current, weights)) return;
+      if (cheapest.compareAndSet(c, current, e)) return;
+    }
+  }
+
+  private static boolean lighter(int e, int f, double[] weights) {
+    if (weights[e] != weights[f]) return weights[e] < weights[f];
+    return e < f;
+  }
+
+  public Iterable<Edge> edges() {
+    return mst;
+  }
+
+  public double weight() {
+    return weight;
+  }
+
+  public static void main(String[] args) {
+    In in = new In(args[0]);
+    EdgeWeightedGraph G = new EdgeWeightedGraph(in);
+    ParallelBoruvkaMST mst = new ParallelBoruvkaMST(G);
+    for (Edge e : mst.edges()) {
+      StdOut.println(e);
+    }
+    StdOut.printf("%.5f\n", mst.weight());
+  }
+}
@@ -0,0 +1,268 @@
+package com.algorithms;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Direction-optimizing breadth-first search (Beamer, Asanović and Patterson).
+ * Each level runs as a fork/join task over 64-vertex words of the frontier
+ * bitset, either top-down (expand the frontier) or bottom-up (let every
+ * unvisited vertex look for a parent in the frontier), whichever is expected
+ * to inspect fewer edges. Queries match {@link BreadthFirstPaths}.
+ */
+public class ParallelBreadthFirstPaths {
+    private static final int INFINITY = Integer.MAX_VALUE;
+    private static final int ALPHA = 14;    // switch to bottom-up when frontier edges > unexplored edges / ALPHA
+    private static final int BETA = 24;     // switch back to top-down when frontier vertices < V / BETA
+    private static final int GRAIN = 64;    // words (of 64 vertices) handled by one leaf task
+
+    private final CSRGraph G;
+    private final int s;
+    private final int[] edgeTo;
+    private final int[] distTo;
+    private final AtomicLongArray visited;
+    private final int words;
+
+    private long[] frontier;
+    private AtomicLongArray next;
+
+    public ParallelBreadthFirstPaths(Graph G, int s) {
+        this(new CSRGraph(G), s);
+    }
+
+    public ParallelBreadthFirstPaths(CSRGraph G, int s) {
+        this.G = G;
+        this.s = s;
+        int V = G.V();
+        edgeTo = new int[V];
+        distTo = new int[V];
+        Arrays.fill(distTo, INFINITY);
+        validateVertex(s);
+        words = (V + 63) >>> 6;
+        visited = new AtomicLongArray(words);
+        bfs(s);
+    }
+
+    private void bfs(int s) {
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        frontier = new long[words];
+        frontier[s >>> 6] |= 1L << s;
+        visited.set(s >>> 6, 1L << s);
+        distTo[s] = 0;
+
+        long unexplored = 2L * G.E();   // edge endpoints not yet scanned top-down
+        long frontierEdges = G.end(s) - G.begin(s);
+        long frontierSize = 1;
+        boolean topDown = true;
+        for (int depth = 0; frontierSize > 0; depth++) {
+            if (topDown && frontierEdges > unexplored / ALPHA) {
+                topDown = false;
+            } else if (!topDown && frontierSize < G.V() / BETA) {
+                topDown = true;
+            }
+            next = new AtomicLongArray(words);
+            long[] counts = pool.invoke(topDown ? new TopDown(0, words, depth) : new BottomUp(0, words, depth));
+            unexplored -= frontierEdges;
+            frontierSize = counts[0];
+            frontierEdges = counts[1];
+            for (int i = 0; i < words; i++) {
+                frontier[i] = next.get(i);
+            }
+        }
+        frontier = null;
+        next = null;
+    }
+
+    // atomically marks w visited; returns true only for the single caller that marked it
+    private boolean visit(int w) {
+        int i = w >>> 6;
+        long bit = 1L << w;
+        while (true) {
+            long old = visited.get(i);
+            if ((old & bit) != 0) {
+                return false;
+            }
+            if (visited.compareAndSet(i, old, old | bit)) {
+                return true;
+            }
+        }
+    }
+
+    private static void setBit(AtomicLongArray bits, int w) {
+        int i = w >>> 6;
+        long bit = 1L << w;
+        while (true) {
+            long old = bits.get(i);
+            if (bits.compareAndSet(i, old, old | bit)) {
+                return;
+            }
+        }
+    }
+
+    // returns {vertices, edge endpoints} discovered for the next frontier
+    private abstract class Step extends RecursiveTask<long[]> {
+        final int lo;
+        final int hi;
+        final int depth;
+
+        Step(int lo, int hi, int depth) {
+            this.lo = lo;
+            this.hi = hi;
+            this.depth = depth;
+        }
+
+        abstract Step split(int lo, int hi);
+
+        abstract void leaf(long[] counts);
+
+        @Override
+        protected long[] compute() {
+            if (hi - lo <= GRAIN) {
+                long[] counts = new long[2];
+                leaf(counts);
+                return counts;
+            }
+            int mid = (lo + hi) >>> 1;
+            Step left = split(lo, mid);
+            left.fork();
+            long[] right = split(mid, hi).compute();
+            long[] counts = left.join();
+            counts[0] += right[0];
+            counts[1] += right[1];
+            return counts;
+        }
+    }
+
+    private class TopDown extends Step {
+        TopDown(int lo, int hi, int depth) {
+            super(lo, hi, depth);
+        }
+
+        Step split(int lo, int hi) {
+            return new TopDown(lo, hi, depth);
+        }
+
+        void leaf(long[] counts) {
+            for (int i = lo; i < hi; i++) {
+                for (long word = frontier[i]; word != 0; word &= word - 1) {
+                    int v = (i << 6) + Long.numberOfTrailingZeros(word);
+                    for (int e = G.begin(v); e < G.end(v); e++) {
+                        int w = G.target(e);
+                        if (visit(w)) {
+                            edgeTo[w] = v;
+                            distTo[w] = depth + 1;
+                            setBit(next, w);
+                            counts[0]++;
+                            counts[1] += G.end(w) - G.begin(w);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    // each leaf owns its words of visited and next, so no CAS is needed here
+    private class BottomUp extends Step {
+        BottomUp(int lo, int hi, int depth) {
+            super(lo, hi, depth);
+        }
+
+        Step split(int lo, int hi) {
+            return new BottomUp(lo, hi, depth);
+        }
+
+        void leaf(long[] counts) {
+            int V = G.V();
+            for (int i = lo; i < hi; i++) {
+                long seen = visited.get(i);
+                long unvisited = ~seen;
+                if (i == words - 1 && (V & 63) != 0) {
+                    unvisited &= (1L << V) - 1;
+                }
+                long found = 0;
+                for (long word = unvisited; word != 0; word &= word - 1) {
+                    int v = (i << 6) + Long.numberOfTrailingZeros(word);
+                    for (int e = G.begin(v); e < G.end(v); e++) {
+                        int w = G.target(e);
+                        if ((frontier[w >>> 6] & (1L << w)) != 0) {
+                            edgeTo[v] = w;
+                            distTo[v] = depth + 1;
+                            found |= 1L << v;
+                            counts[0]++;
+                            counts[1] += G.end(v) - G.begin(v);
+                            break;
+                        }
+                    }
+                }
+                if (found != 0) {
+                    visited.set(i, seen | found);
+                    next.set(i, found);
+                }
+            }
+        }
+    }
+
+    private void validateVertex(int v) {
+        int V = distTo.length;
+        if (v < 0 || v >= V) {
+            throw new IndexOutOfBoundsException("vertex " + v + " is not between 0 and " + (V - 1));
+        }
+    }
+
+    public boolean hasPathTo(int v) {
+        validateVertex(v);
+        return distTo[v] != INFINITY;
+    }
+
+    /**
+     * Returns the number of edges on a shortest path from the source to
+     * {@code v}, or {@code Integer.MAX_VALUE} if there is no such path.
+     */
+    public int distTo(int v) {
+        validateVertex(v);
+        return distTo[v];
+    }
+
+    public Iterable<Integer> pathTo(int v) {
+        return pathToInts(v);
+    }
+
+    /**
+     * Returns the same path as {@link #pathTo}, as an {@link IntStack} whose
+     * vertices can be read with {@link IntStack#get} without boxing.
+     */
+    public IntStack pathToInts(int v) {
+        if (!hasPathTo(v)) {
+            return null;
+        }
+        IntStack path = new IntStack();
+        for (int x = v; x != s; x = edgeTo[x]) {
+            path.push(x);
+        }
+        path.push(s);
+        return path;
+    }
+
+    public static void main(String[] args) {
+        CSRGraph G = new CSRGraph(new In(args[0]));
+        int s = Integer.parseInt(args[1]);
+        ParallelBreadthFirstPaths search = new ParallelBreadthFirstPaths(G, s);
+        for (int v = 0; v < G.V(); v++) {
+            StdOut.print(s + " to " + v + " (" + search.distTo(v) + "): ");
+            if (search.hasPathTo(v)) {
+                IntStack path = search.pathToInts(v);
+                for (int i = 0; i < path.size(); i++) {
+                    int x = path.get(i);
+                    if (x == s) {
+                        StdOut.print(x);
+                    } else {
+                        StdOut.print("-" + x);
+                    }
+                }
+            }
+            StdOut.println();
+        }
+    }
+}
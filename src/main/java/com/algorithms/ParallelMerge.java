@@ -0,0 +1,207 @@
+package com.algorithms;
+
+import java.util.Comparator;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Stable fork/join merge sort. The two halves of every large subarray are
+ * sorted in parallel, and large merges are themselves split in parallel, so
+ * the final merge does not run on a single thread. Subarrays alternate between
+ * the input and one auxiliary array of the same length instead of being
+ * copied back after each merge, small subarrays are insertion sorted, and a
+ * merge is skipped when its halves are already in order.
+ * <p>
+ * Tasks run in the fork/join pool of the calling thread, or in the common
+ * pool when the caller is not a pool worker; to bound the number of threads,
+ * call {@code sort} from a task submitted to a {@code ForkJoinPool} of the
+ * desired parallelism.
+ */
+public class ParallelMerge {
+    private static final int CUTOFF = 16;                 // insertion sort subarrays up to this size
+    private static final int SORT_GRAIN = 1 << 13;        // sort subarrays up to this size sequentially
+    private static final int MERGE_GRAIN = 1 << 14;       // merge runs up to this total size sequentially
+
+    private ParallelMerge() { }
+
+    @SuppressWarnings("unchecked")
+    public static void sort(Comparable[] a) {
+        sort(a, Comparator.naturalOrder());
+    }
+
+    public static <T> void sort(T[] a, Comparator<? super T> comparator) {
+        Object[] aux = a.clone();
+        new SortTask(aux, a, 0, a.length, comparator).invoke();
+    }
+
+    // Sorts src[lo, hi) into dst[lo, hi), using src as scratch space; on entry
+    // both arrays hold the same items in [lo, hi).
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static class SortTask extends RecursiveAction {
+        private final Object[] src;
+        private final Object[] dst;
+        private final int lo;
+        private final int hi;
+        private final Comparator c;
+
+        SortTask(Object[] src, Object[] dst, int lo, int hi, Comparator c) {
+            this.src = src;
+            this.dst = dst;
+            this.lo = lo;
+            this.hi = hi;
+            this.c = c;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= SORT_GRAIN) {
+                sequentialSort(src, dst, lo, hi, c);
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new SortTask(dst, src, lo, mid, c), new SortTask(dst, src, mid, hi, c));
+            if (c.compare(src[mid - 1], src[mid]) <= 0) {
+                System.arraycopy(src, lo, dst, lo, hi - lo);
+                return;
+            }
+            new MergeTask(src, lo, mid, mid, hi, dst, lo, c).compute();
+        }
+    }
+
+    // Merges the sorted runs src[lo1, hi1) and src[lo2, hi2) into dst from index k;
+    // on ties the first run goes first.
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static class MergeTask extends RecursiveAction {
+        private final Object[] src;
+        private final int lo1, hi1, lo2, hi2;
+        private final Object[] dst;
+        private final int k;
+        private final Comparator c;
+
+        MergeTask(Object[] src, int lo1, int hi1, int lo2, int hi2, Object[] dst, int k, Comparator c) {
+            this.src = src;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.dst = dst;
+            this.k = k;
+            this.c = c;
+        }
+
+        @Override
+        protected void compute() {
+            int n1 = hi1 - lo1;
+            int n2 = hi2 - lo2;
+            if (n1 + n2 <= MERGE_GRAIN) {
+                merge(src, lo1, hi1, lo2, hi2, dst, k, c);
+                return;
+            }
+            // split the longer run at its midpoint and the other run where that
+            // item would go, keeping items of the first run ahead of equal ones
+            int m1, m2;
+            if (n1 >= n2) {
+                m1 = (lo1 + hi1) >>> 1;
+                m2 = lowerBound(src, lo2, hi2, src[m1], c);
+            }
+            else {
+                m2 = (lo2 + hi2) >>> 1;
+                m1 = upperBound(src, lo1, hi1, src[m2], c);
+            }
+            int k2 = k + (m1 - lo1) + (m2 - lo2);
+            invokeAll(new MergeTask(src, lo1, m1, lo2, m2, dst, k, c),
+                      new MergeTask(src, m1, hi1, m2, hi2, dst, k2, c));
+        }
+    }
+
+    // first index in a[lo, hi) whose item is not less than key
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static int lowerBound(Object[] a, int lo, int hi, Object key, Comparator c) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (c.compare(a[mid], key) < 0) lo = mid + 1;
+            else                            hi = mid;
+        }
+        return lo;
+    }
+
+    // first index in a[lo, hi) whose item is greater than key
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static int upperBound(Object[] a, int lo, int hi, Object key, Comparator c) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (c.compare(a[mid], key) <= 0) lo = mid + 1;
+            else                             hi = mid;
+        }
+        return lo;
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static void merge(Object[] src, int lo1, int hi1, int lo2, int hi2, Object[] dst, int k, Comparator c) {
+        int i = lo1, j = lo2;
+        while (i < hi1 && j < hi2) {
+            if (c.compare(src[j], src[i]) < 0) dst[k++] = src[j++];
+            else                               dst[k++] = src[i++];
+        }
+        System.arraycopy(src, i, dst, k, hi1 - i);
+        System.arraycopy(src, j, dst, k + (hi1 - i), hi2 - j);
+    }
+
+    /**
+     * Stable sequential merge sort of {@code src[lo, hi)} into
+     * {@code dst[lo, hi)}, using {@code src} as scratch space. Both arrays must
+     * hold the same items in {@code [lo, hi)} on entry.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    static void sequentialSort(Object[] src, Object[] dst, int lo, int hi, Comparator c) {
+        if (hi - lo <= CUTOFF) {
+            insertionSort(dst, lo, hi, c);
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        sequentialSort(dst, src, lo, mid, c);
+        sequentialSort(dst, src, mid, hi, c);
+        if (c.compare(src[mid - 1], src[mid]) <= 0) {
+            System.arraycopy(src, lo, dst, lo, hi - lo);
+            return;
+        }
+        merge(src, lo, mid, mid, hi, dst, lo, c);
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static void insertionSort(Object[] a, int lo, int hi, Comparator c) {
+        for (int i = lo + 1; i < hi; i++) {
+            Object t = a[i];
+            int j = i;
+            for (; j > lo && c.compare(t, a[j - 1]) < 0; j--) {
+                a[j] = a[j - 1];
+            }
+            a[j] = t;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public static boolean isSorted(Comparable[] a) {
+        return isSorted(a, Comparator.naturalOrder());
+    }
+
+    public static <T> boolean isSorted(T[] a, Comparator<? super T> comparator) {
+        for (int i = 1; i < a.length; i++) {
+            if (comparator.compare(a[i], a[i - 1]) < 0) return false;
+        }
+        return true;
+    }
+
+    public static void show(Comparable[] a) {
+        for (int i = 0; i < a.length; i++) {
+            StdOut.print(a[i] + " ");
+        }
+        StdOut.println();
+    }
+
+    public static void main(String[] args) {
+        String[] a = StdIn.readAllStrings();
+        sort(a);
+        assert isSorted(a);
+        show(a);
+    }
+}
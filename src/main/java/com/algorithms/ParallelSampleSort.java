@@ -0,0 +1,159 @@
+package com.algorithms;
+
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Stable parallel sample sort. A sorted random sample picks splitters that
+ * divide the items into about {@code 4p} buckets for {@code p} threads; the
+ * items are classified and scattered into their buckets in parallel, and the
+ * buckets are then merge sorted independently. An item equal to a splitter
+ * goes to a bucket of its own that needs no sorting, so inputs with few
+ * distinct keys do not pile up in one bucket.
+ * <p>
+ * Tasks run in the fork/join pool of the calling thread, or in the common
+ * pool when the caller is not a pool worker, as for {@link ParallelMerge}.
+ */
+public class ParallelSampleSort {
+    private static final int SEQUENTIAL_CUTOFF = 1 << 14;    // merge sort smaller arrays directly
+    private static final int OVERSAMPLE = 32;                // sample items per bucket
+    private static final int MAX_BUCKETS = 1 << 10;          // bucket ids must fit in a short
+    private static final int CHUNK = 1 << 14;                // items classified by one task
+
+    private ParallelSampleSort() { }
+
+    @SuppressWarnings("unchecked")
+    public static void sort(Comparable[] a) {
+        sort(a, Comparator.naturalOrder());
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public static <T> void sort(T[] a, Comparator<? super T> comparator) {
+        Comparator c = comparator;
+        int n = a.length;
+        if (n <= SEQUENTIAL_CUTOFF) {
+            ParallelMerge.sequentialSort(a.clone(), a, 0, n, c);
+            return;
+        }
+
+        // choose buckets - 1 splitters from a sorted random sample
+        int parallelism = ForkJoinTask.inForkJoinPool()
+                        ? ForkJoinTask.getPool().getParallelism()
+                        : ForkJoinPool.getCommonPoolParallelism();
+        int buckets = Math.min(MAX_BUCKETS, Math.min(4 * parallelism, n / SEQUENTIAL_CUTOFF));
+        buckets = Math.max(buckets, 2);
+        SplittableRandom random = new SplittableRandom(n);
+        Object[] sample = new Object[buckets * OVERSAMPLE];
+        for (int i = 0; i < sample.length; i++) {
+            sample[i] = a[random.nextInt(n)];
+        }
+        ParallelMerge.sequentialSort(sample.clone(), sample, 0, sample.length, c);
+        Object[] splitters = new Object[buckets - 1];
+        for (int i = 0; i < splitters.length; i++) {
+            splitters[i] = sample[(i + 1) * OVERSAMPLE];
+        }
+
+        // classify each chunk and count its items per bucket: bucket 2i holds
+        // items between splitters i - 1 and i, bucket 2i + 1 items equal to splitter i
+        int slots = 2 * buckets - 1;
+        int chunks = (n + CHUNK - 1) / CHUNK;
+        short[] bucketOf = new short[n];
+        int[][] counts = new int[chunks][];
+        inParallel(n, CHUNK, (k, lo, hi) -> {
+            int[] count = new int[slots];
+            for (int i = lo; i < hi; i++) {
+                int b = classify(a[i], splitters, c);
+                bucketOf[i] = (short) b;
+                count[b]++;
+            }
+            counts[k] = count;
+        });
+
+        // starts[b] = first index of bucket b; chunk k scatters its items of
+        // bucket b from offsets[k][b], after the same items of earlier chunks
+        int[] starts = new int[slots + 1];
+        int[][] offsets = new int[chunks][slots];
+        for (int b = 0; b < slots; b++) {
+            int at = starts[b];
+            for (int k = 0; k < chunks; k++) {
+                offsets[k][b] = at;
+                at += counts[k][b];
+            }
+            starts[b + 1] = at;
+        }
+        Object[] aux = new Object[n];
+        inParallel(n, CHUNK, (k, lo, hi) -> {
+            int[] next = offsets[k];
+            for (int i = lo; i < hi; i++) {
+                aux[next[bucketOf[i]]++] = a[i];
+            }
+        });
+
+        // sort each bucket from aux back into a
+        inParallel(slots, 1, (b, lo, hi) -> {
+            int from = starts[b];
+            int to = starts[b + 1];
+            System.arraycopy(aux, from, a, from, to - from);
+            if (b % 2 == 0) ParallelMerge.sequentialSort(aux, a, from, to, c);
+        });
+    }
+
+    // index of the bucket for x among the sorted splitters
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static int classify(Object x, Object[] splitters, Comparator c) {
+        int lo = 0, hi = splitters.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            int cmp = c.compare(x, splitters[mid]);
+            if      (cmp < 0) hi = mid;
+            else if (cmp > 0) lo = mid + 1;
+            else return 2 * mid + 1;
+        }
+        return 2 * lo;
+    }
+
+    private interface Chunk {
+        void run(int k, int lo, int hi);
+    }
+
+    // runs body on chunks k = 0, 1, ... of [0, n) in parallel, where chunk k
+    // covers [k * size, min(n, (k + 1) * size))
+    private static void inParallel(int n, int size, Chunk body) {
+        int chunks = (n + size - 1) / size;
+        RecursiveAction[] tasks = new RecursiveAction[chunks];
+        for (int k = 0; k < chunks; k++) {
+            final int id = k;
+            final int lo = k * size;
+            final int hi = Math.min(n, lo + size);
+            tasks[k] = new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    body.run(id, lo, hi);
+                }
+            };
+        }
+        ForkJoinTask.invokeAll(tasks);
+    }
+
+    public static boolean isSorted(Comparable[] a) {
+        return ParallelMerge.isSorted(a);
+    }
+
+    public static <T> boolean isSorted(T[] a, Comparator<? super T> comparator) {
+        return ParallelMerge.isSorted(a, comparator);
+    }
+
+    public static void show(Comparable[] a) {
+        ParallelMerge.show(a);
+    }
+
+    public static void main(String[] args) {
+        String[] a = StdIn.readAllStrings();
+        sort(a);
+        assert isSorted(a);
+        show(a);
+    }
+}
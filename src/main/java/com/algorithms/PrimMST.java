@@ -1,19 +1,35 @@
 package com.algorithms;
 
+/**
+ * Eager Prim's algorithm. Crossing-edge weights live in a {@link DoubleIndexMinPQ}, so the
+ * priority queue neither boxes weights nor calls {@code compareTo}; by default it is a 4-ary heap.
+ */
 public class PrimMST {
+  private static final int ARITY = 4;
+
   private Edge[] edgeTo; // shortest edge from tree vertex
   private double[] distTo; // distTo[w] = edgeTo[w].weight()
   private boolean[] marked; // true if v on tree
-  private IndexMinPQ<Double> pq; // eligible crossing edges
+  private DoubleIndexMinPQ pq; // eligible crossing edges
 
   public PrimMST(EdgeWeightedGraph G) {
+    this(G, ARITY);
+  }
+
+  /**
+   * Computes a minimum spanning tree (of the component of vertex 0) using a priority queue laid
+   * out as a {@code d}-ary heap.
+   *
+   * @throws IllegalArgumentException if {@code d < 2}
+   */
+  public PrimMST(EdgeWeightedGraph G, int d) {
     edgeTo = new Edge[G.V()];
     distTo = new double[G.V()];
     marked = new boolean[G.V()];
     for (int v = 0; v < G.V(); v++) {
       distTo[v] = Double.POSITIVE_INFINITY;
     }
-    pq = new IndexMinPQ<>(G.V());
+    pq = new DoubleIndexMinPQ(G.V(), d);
     // Initialize pq with 0, weight 0.
     distTo[0] = 0.0;
     pq.insert(0, 0.0);
@@ -38,11 +54,27 @@ public class PrimMST {
         edgeTo[w] = e;
         distTo[w] = e.weight();
         if (pq.contains(w)) {
-          pq.changeKey(w, distTo[w]);
+          pq.decreaseKey(w, distTo[w]);
         } else {
           pq.insert(w, distTo[w]);
         }
       }
     }
   }
+
+  public Iterable<Edge> edges() {
+    Queue<Edge> mst = new Queue<>();
+    for (int v = 0; v < edgeTo.length; v++) {
+      if (edgeTo[v] != null) mst.enqueue(edgeTo[v]);
+    }
+    return mst;
+  }
+
+  public double weight() {
+    double weight = 0.0;
+    for (Edge e : edges()) {
+      weight += e.weight();
+    }
+    return weight;
+  }
 }
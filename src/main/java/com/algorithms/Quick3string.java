@@ -0,0 +1,87 @@
+package com.algorithms;
+
+/**
+ * Three-way radix quicksort of strings: partition on the d-th char into
+ * less, equal and greater, then sort the equal part on the next char. Unlike
+ * {@link MSD} it needs no per-subarray counters and works for any chars, and
+ * it handles long common prefixes and duplicate keys well. Subarrays of at
+ * most {@code CUTOFF} strings are insertion sorted starting from the current
+ * char; the array is shuffled first to make bad partitions unlikely.
+ */
+public class Quick3string {
+    private static final int CUTOFF = 15;    // cutoff to insertion sort
+
+    private Quick3string() { }
+
+    public static void sort(String[] a) {
+        StdRandom.shuffle(a);
+        sort(a, 0, a.length - 1, 0);
+    }
+
+    // return the dth character of s, -1 if d = length of s
+    private static int charAt(String s, int d) {
+        if (d == s.length()) return -1;
+        return s.charAt(d);
+    }
+
+    // 3-way string quicksort a[lo..hi] starting at dth character
+    private static void sort(String[] a, int lo, int hi, int d) {
+        if (hi <= lo + CUTOFF) {
+            insertion(a, lo, hi, d);
+            return;
+        }
+
+        int lt = lo, gt = hi;
+        int v = charAt(a[lo], d);
+        int i = lo + 1;
+        while (i <= gt) {
+            int t = charAt(a[i], d);
+            if      (t < v) exch(a, lt++, i++);
+            else if (t > v) exch(a, i, gt--);
+            else            i++;
+        }
+
+        // a[lo..lt-1] < v = a[lt..gt] < a[gt+1..hi].
+        sort(a, lo, lt - 1, d);
+        if (v >= 0) sort(a, lt, gt, d + 1);
+        sort(a, gt + 1, hi, d);
+    }
+
+    // sort from a[lo] to a[hi], starting at the dth character
+    private static void insertion(String[] a, int lo, int hi, int d) {
+        for (int i = lo; i <= hi; i++) {
+            for (int j = i; j > lo && less(a[j], a[j - 1], d); j--) {
+                exch(a, j, j - 1);
+            }
+        }
+    }
+
+    // is v less than w, starting at character d
+    private static boolean less(String v, String w, int d) {
+        for (int i = d; i < Math.min(v.length(), w.length()); i++) {
+            if (v.charAt(i) < w.charAt(i)) return true;
+            if (v.charAt(i) > w.charAt(i)) return false;
+        }
+        return v.length() < w.length();
+    }
+
+    private static void exch(String[] a, int i, int j) {
+        String t = a[i]; a[i] = a[j]; a[j] = t;
+    }
+
+    public static boolean isSorted(String[] a) {
+        for (int i = 1; i < a.length; i++) {
+            if (a[i].compareTo(a[i - 1]) < 0) return false;
+        }
+        return true;
+    }
+
+    public static void main(String[] args) {
+        String[] a = StdIn.readAllStrings();
+        sort(a);
+        assert isSorted(a);
+        for (String s : a) {
+            StdOut.println(s);
+        }
+    }
+}
@@ -1,5 +1,14 @@
 package com.algorithms;
 
+import java.util.NoSuchElementException;
+
+/**
+ * Left-leaning red-black BST: an ordered symbol table that stays balanced, so
+ * every operation takes O(log n) time even when keys arrive in sorted order.
+ * Lookups, the ordered queries and range iteration walk the tree with loops
+ * instead of recursion; only the restructuring operations, {@code put} and
+ * the deletes, recurse, and their depth is bounded by 2 lg n.
+ */
 public class RedBlackBST<Key extends Comparable<Key>, Value> {
   private Node root;
 
@@ -47,22 +56,57 @@ public class RedBlackBST<Key extends Comparable<Key>, Value> {
     return x;
   }
 
+  // flips the colors of h and its two children; in put() h is black and the
+  // children are red, deletion also uses it the other way around
   private void flipColors(Node h) {
-    h.color = RED;
-    h.left.color = BLACK;
-    h.right.color = BLACK;
+    h.color = !h.color;
+    h.left.color = !h.left.color;
+    h.right.color = !h.right.color;
   }
 
   public int size() {
     return size(root);
   }
 
+  public boolean isEmpty() {
+    return root == null;
+  }
+
   private int size(Node x) {
     if (x == null) return 0;
     else return x.N;
   }
 
+  public Value get(Key key) {
+    if (key == null) {
+      throw new NullPointerException("argument to get() is null");
+    }
+    Node x = root;
+    while (x != null) {
+      int cmp = key.compareTo(x.key);
+      if (cmp < 0) {
+        x = x.left;
+      } else if (cmp > 0) {
+        x = x.right;
+      } else {
+        return x.val;
+      }
+    }
+    return null;
+  }
+
+  public boolean contains(Key key) {
+    return get(key) != null;
+  }
+
   public void put(Key key, Value val) {
+    if (key == null) {
+      throw new NullPointerException("first argument to put() is null");
+    }
+    if (val == null) {
+      delete(key);
+      return;
+    }
     root = put(root, key, val);
     root.color = BLACK;
   }
@@ -95,4 +139,413 @@ public class RedBlackBST<Key extends Comparable<Key>, Value> {
     h.N = size(h.left) + size(h.right) + 1;
     return h;
   }
+
+  public void deleteMin() {
+    if (isEmpty()) {
+      throw new NoSuchElementException("Symbol table underflow error");
+    }
+    // if both children of root are black, set root to red
+    if (!isRed(root.left) && !isRed(root.right)) {
+      root.color = RED;
+    }
+    root = deleteMin(root);
+    if (!isEmpty()) {
+      root.color = BLACK;
+    }
+  }
+
+  private Node deleteMin(Node h) {
+    if (h.left == null) {
+      return null;
+    }
+    if (!isRed(h.left) && !isRed(h.left.left)) {
+      h = moveRedLeft(h);
+    }
+    h.left = deleteMin(h.left);
+    return balance(h);
+  }
+
+  public void deleteMax() {
+    if (isEmpty()) {
+      throw new NoSuchElementException("Symbol table underflow error");
+    }
+    if (!isRed(root.left) && !isRed(root.right)) {
+      root.color = RED;
+    }
+    root = deleteMax(root);
+    if (!isEmpty()) {
+      root.color = BLACK;
+    }
+  }
+
+  private Node deleteMax(Node h) {
+    if (isRed(h.left)) {
+      h = rotateRight(h);
+    }
+    if (h.right == null) {
+      return null;
+    }
+    if (!isRed(h.right) && !isRed(h.right.left)) {
+      h = moveRedRight(h);
+    }
+    h.right = deleteMax(h.right);
+    return balance(h);
+  }
+
+  public void delete(Key key) {
+    if (key == null) {
+      throw new NullPointerException("argument to delete() is null");
+    }
+    if (!contains(key)) {
+      return;
+    }
+    if (!isRed(root.left) && !isRed(root.right)) {
+      root.color = RED;
+    }
+    root = delete(root, key);
+    if (!isEmpty()) {
+      root.color = BLACK;
+    }
+  }
+
+  // Deletes key, which is in the subtree rooted at h. On the way down, makes
+  // sure the current node is not a 2-node, so removing a leaf below it never
+  // leaves a black link missing.
+  private Node delete(Node h, Key key) {
+    if (key.compareTo(h.key) < 0) {
+      if (!isRed(h.left) && !isRed(h.left.left)) {
+        h = moveRedLeft(h);
+      }
+      h.left = delete(h.left, key);
+    } else {
+      if (isRed(h.left)) {
+        h = rotateRight(h);
+      }
+      if (key.compareTo(h.key) == 0 && h.right == null) {
+        return null;
+      }
+      if (!isRed(h.right) && !isRed(h.right.left)) {
+        h = moveRedRight(h);
+      }
+      if (key.compareTo(h.key) == 0) {
+        // replace h by its successor, then delete the successor
+        Node x = min(h.right);
+        h.key = x.key;
+        h.val = x.val;
+        h.right = deleteMin(h.right);
+      } else {
+        h.right = delete(h.right, key);
+      }
+    }
+    return balance(h);
+  }
+
+  // Assuming h is red and both h.left and h.left.left are black, makes
+  // h.left or one of its children red.
+  private Node moveRedLeft(Node h) {
+    flipColors(h);
+    if (isRed(h.right.left)) {
+      h.right = rotateRight(h.right);
+      h = rotateLeft(h);
+      flipColors(h);
+    }
+    return h;
+  }
+
+  // Assuming h is red and both h.right and h.right.left are black, makes
+  // h.right or one of its children red.
+  private Node moveRedRight(Node h) {
+    flipColors(h);
+    if (isRed(h.left.left)) {
+      h = rotateRight(h);
+      flipColors(h);
+    }
+    return h;
+  }
+
+  // restores the left-leaning invariants at h on the way back up
+  private Node balance(Node h) {
+    if (isRed(h.right) && !isRed(h.left)) {
+      h = rotateLeft(h);
+    }
+    if (isRed(h.left) && isRed(h.left.left)) {
+      h = rotateRight(h);
+    }
+    if (isRed(h.left) && isRed(h.right)) {
+      flipColors(h);
+    }
+    h.N = size(h.left) + size(h.right) + 1;
+    return h;
+  }
+
+  /**
+   * Returns the height of the tree; a tree with one node has height 0.
+   */
+  public int height() {
+    return height(root);
+  }
+
+  private int height(Node x) {
+    if (x == null) {
+      return -1;
+    }
+    return 1 + Math.max(height(x.left), height(x.right));
+  }
+
+  public Key min() {
+    if (isEmpty()) {
+      return null;
+    }
+    return min(root).key;
+  }
+
+  private Node min(Node x) {
+    while (x.left != null) {
+      x = x.left;
+    }
+    return x;
+  }
+
+  public Key max() {
+    if (isEmpty()) {
+      return null;
+    }
+    Node x = root;
+    while (x.right != null) {
+      x = x.right;
+    }
+    return x.key;
+  }
+
+  /**
+   * Returns the largest key in this symbol table less than or equal to {@code key}.
+   */
+  public Key floor(Key key) {
+    if (key == null) {
+      throw new NullPointerException("argument to floor() is null");
+    }
+    Key floor = null;
+    Node x = root;
+    while (x != null) {
+      int cmp = key.compareTo(x.key);
+      if (cmp == 0) {
+        return x.key;
+      }
+      if (cmp < 0) {
+        x = x.left;
+      } else {
+        floor = x.key;
+        x = x.right;
+      }
+    }
+    return floor;
+  }
+
+  /**
+   * Returns the smallest key in this symbol table greater than or equal to {@code key}.
+   */
+  public Key ceiling(Key key) {
+    if (key == null) {
+      throw new NullPointerException("argument to ceiling() is null");
+    }
+    Key ceiling = null;
+    Node x = root;
+    while (x != null) {
+      int cmp = key.compareTo(x.key);
+      if (cmp == 0) {
+        return x.key;
+      }
+      if (cmp > 0) {
+        x = x.right;
+      } else {
+        ceiling = x.key;
+        x = x.left;
+      }
+    }
+    return ceiling;
+  }
+
+  public Key select(int k) {
+    if (k < 0 || k >= size()) {
+      return null;
+    }
+    Node x = root;
+    while (true) {
+      int t = size(x.left);
+      if (t > k) {
+        x = x.left;
+      } else if (t < k) {
+        k -= t + 1;
+        x = x.right;
+      } else {
+        return x.key;
+      }
+    }
+  }
+
+  /**
+   * Returns the number of keys in this symbol table strictly less than {@code key}.
+   */
+  public int rank(Key key) {
+    if (key == null) {
+      throw new NullPointerException("argument to rank() is null");
+    }
+    int rank = 0;
+    Node x = root;
+    while (x != null) {
+      int cmp = key.compareTo(x.key);
+      if (cmp < 0) {
+        x = x.left;
+      } else if (cmp > 0) {
+        rank += 1 + size(x.left);
+        x = x.right;
+      } else {
+        return rank + size(x.left);
+      }
+    }
+    return rank;
+  }
+
+  /**
+   * Returns the number of keys in this symbol table in the specified range.
+   */
+  public int size(Key lo, Key hi) {
+    if (lo == null) {
+      throw new NullPointerException("first argument to size() is null");
+    }
+    if (hi == null) {
+      throw new NullPointerException("second argument to size() is null");
+    }
+    if (lo.compareTo(hi) > 0) {
+      return 0;
+    }
+    if (contains(hi)) {
+      return rank(hi) - rank(lo) + 1;
+    } else {
+      return rank(hi) - rank(lo);
+    }
+  }
+
+  public Iterable<Key> keys() {
+    if (isEmpty()) {
+      return new Queue<Key>();
+    }
+    return keys(min(), max());
+  }
+
+  /**
+   * Returns the keys between {@code lo} and {@code hi}, inclusive, in
+   * ascending order. The in-order walk keeps its path in an array sized to the
+   * 2 lg n height bound and skips every subtree outside the range.
+   */
+  @SuppressWarnings("unchecked")
+  public Iterable<Key> keys(Key lo, Key hi) {
+    if (lo == null) {
+      throw new NullPointerException("first argument to keys() is null");
+    }
+    if (hi == null) {
+      throw new NullPointerException("second argument to keys() is null");
+    }
+    Queue<Key> queue = new Queue<Key>();
+    if (lo.compareTo(hi) > 0) {
+      return queue;
+    }
+    // path holds the ancestors, all >= lo, whose key and right subtree are still to visit
+    Node[] path = (Node[]) new RedBlackBST.Node[2 * (32 - Integer.numberOfLeadingZeros(size())) + 1];
+    int depth = 0;
+    Node x = root;
+    while (x != null || depth > 0) {
+      if (x != null) {
+        if (lo.compareTo(x.key) <= 0) {
+          path[depth++] = x;
+          x = x.left;
+        } else {
+          x = x.right;
+        }
+      } else {
+        x = path[--depth];
+        if (hi.compareTo(x.key) < 0) {
+          break;
+        }
+        queue.enqueue(x.key);
+        x = x.right;
+      }
+    }
+    return queue;
+  }
+
+  public boolean check() {
+    return isBST(root, null, null) && isSizeConsistent(root) && is23(root) && isBalanced();
+  }
+
+  // are all keys in the subtree rooted at x strictly between min and max
+  // (null meaning no bound)?
+  private boolean isBST(Node x, Key min, Key max) {
+    if (x == null) {
+      return true;
+    }
+    if (min != null && x.key.compareTo(min) <= 0) {
+      return false;
+    }
+    if (max != null && x.key.compareTo(max) >= 0) {
+      return false;
+    }
+    return isBST(x.left, min, x.key) && isBST(x.right, x.key, max);
+  }
+
+  private boolean isSizeConsistent(Node x) {
+    if (x == null) {
+      return true;
+    }
+    if (x.N != size(x.left) + size(x.right) + 1) {
+      return false;
+    }
+    return isSizeConsistent(x.left) && isSizeConsistent(x.right);
+  }
+
+  // no red right links, and no two red links in a row
+  private boolean is23(Node x) {
+    if (x == null) {
+      return true;
+    }
+    if (isRed(x.right)) {
+      return false;
+    }
+    if (x != root && isRed(x) && isRed(x.left)) {
+      return false;
+    }
+    return is23(x.left) && is23(x.right);
+  }
+
+  // the same number of black links on every path from the root to a null link
+  private boolean isBalanced() {
+    int black = 0;
+    for (Node x = root; x != null; x = x.left) {
+      if (!isRed(x)) {
+        black++;
+      }
+    }
+    return isBalanced(root, black);
+  }
+
+  private boolean isBalanced(Node x, int black) {
+    if (x == null) {
+      return black == 0;
+    }
+    if (!isRed(x)) {
+      black--;
+    }
+    return isBalanced(x.left, black) && isBalanced(x.right, black);
+  }
+
+  public static void main(String[] args) {
+    RedBlackBST<String, Integer> st = new RedBlackBST<>();
+    for (int i = 0; !StdIn.isEmpty(); i++) {
+      String key = StdIn.readString();
+      st.put(key, i);
+    }
+    for (String s : st.keys()) {
+      StdOut.println(s + " " + st.get(s));
+    }
+  }
 }
@@ -0,0 +1,298 @@
+package com.algorithms;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Space-Saving summary of the most frequent keys in a stream. It monitors at
+ * most {@code capacity} keys, each with a count and the most by which that
+ * count may overestimate. A key that is not monitored takes the place of the
+ * key with the smallest count, inheriting that count as its error. Memory
+ * stays fixed however many distinct keys the stream holds.
+ * <p>
+ * With total count N, every monitored count exceeds the true count by at most
+ * {@code N / capacity}, and every key whose true count is more than
+ * {@code N / capacity} is monitored. With {@code capacity = ceil(1 / epsilon)}
+ * this finds every key with more than an {@code epsilon} share of the stream.
+ * <p>
+ * Summaries with the same capacity are mergeable: after {@code a.merge(b)},
+ * {@code a} summarizes both streams with the same guarantee for their
+ * combined total.
+ * <p>
+ * The monitored keys are kept in a binary min-heap by count, and a
+ * linear-probing index over the heap finds a key's heap slot, so an update
+ * takes O(log capacity) time and allocates nothing.
+ */
+public class SpaceSaving<Key> {
+    private final int capacity;
+    private final Key[] keys;       // min-heap by count: keys[0] has the smallest count
+    private final long[] counts;
+    private final long[] errors;
+    private final int[] index;      // 1 + heap slot of the key hashed here, or 0 if empty
+    private final int[] position;   // position[i] = index entry of keys[i]
+    private final int mask;
+    private int n;
+    private long total;
+
+    /**
+     * Initializes an empty summary that monitors up to {@code capacity} keys.
+     *
+     * @throws IllegalArgumentException if {@code capacity < 1}
+     */
+    @SuppressWarnings("unchecked")
+    public SpaceSaving(int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException("capacity must be positive");
+        if (capacity > 1 << 29) throw new IllegalArgumentException("capacity is too large");
+        this.capacity = capacity;
+        keys = (Key[]) new Object[capacity];
+        counts = new long[capacity];
+        errors = new long[capacity];
+        position = new int[capacity];
+        index = new int[Integer.highestOneBit(2 * capacity - 1) << 1];
+        mask = index.length - 1;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of keys monitored.
+     */
+    public int size() {
+        return n;
+    }
+
+    /**
+     * Returns the sum of all counts added.
+     */
+    public long total() {
+        return total;
+    }
+
+    private int hash(Key key) {
+        int h = key.hashCode() * 0x9e3779b9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    // the index entry of key, or -1 if key is not monitored
+    private int find(Key key) {
+        for (int i = hash(key); index[i] != 0; i = (i + 1) & mask) {
+            if (keys[index[i] - 1].equals(key)) return i;
+        }
+        return -1;
+    }
+
+    // enters keys[s] into the index
+    private void link(int s) {
+        int i = hash(keys[s]);
+        while (index[i] != 0) {
+            i = (i + 1) & mask;
+        }
+        index[i] = s + 1;
+        position[s] = i;
+    }
+
+    // removes index entry i, shifting the rest of its cluster back as in IntIntLinearProbingST
+    private void unlink(int i) {
+        int j = i;
+        while (true) {
+            j = (j + 1) & mask;
+            if (index[j] == 0) break;
+            int h = hash(keys[index[j] - 1]);
+            if (((j - h) & mask) >= ((j - i) & mask)) {
+                index[i] = index[j];
+                position[index[i] - 1] = i;
+                i = j;
+            }
+        }
+        index[i] = 0;
+    }
+
+    public void add(Key key) {
+        add(key, 1);
+    }
+
+    /**
+     * Adds {@code count} occurrences of {@code key}.
+     *
+     * @throws IllegalArgumentException if {@code count < 0}
+     */
+    public void add(Key key, long count) {
+        if (key == null) throw new NullPointerException("argument to add() is null");
+        if (count < 0) throw new IllegalArgumentException("count must be nonnegative");
+        total += count;
+        int i = find(key);
+        if (i >= 0) {
+            int s = index[i] - 1;
+            counts[s] += count;
+            sink(s);
+        }
+        else if (n < capacity) {
+            keys[n] = key;
+            counts[n] = count;
+            errors[n] = 0;
+            link(n);
+            swim(n++);
+        }
+        else {
+            // the new key replaces the one with the smallest count
+            unlink(position[0]);
+            keys[0] = key;
+            errors[0] = counts[0];
+            counts[0] += count;
+            link(0);
+            sink(0);
+        }
+    }
+
+    /**
+     * Returns an upper bound on the number of occurrences of {@code key}:
+     * its count if it is monitored, else the smallest monitored count.
+     */
+    public long estimate(Key key) {
+        if (key == null) throw new NullPointerException("argument to estimate() is null");
+        int i = find(key);
+        if (i >= 0) return counts[index[i] - 1];
+        return minCount();
+    }
+
+    /**
+     * Returns a lower bound on the number of occurrences of {@code key}.
+     */
+    public long guaranteed(Key key) {
+        if (key == null) throw new NullPointerException("argument to guaranteed() is null");
+        int i = find(key);
+        if (i < 0) return 0;
+        int s = index[i] - 1;
+        return counts[s] - errors[s];
+    }
+
+    // the count of any key that is not monitored is at most this
+    private long minCount() {
+        return n < capacity ? 0 : counts[0];
+    }
+
+    /**
+     * Returns the {@code k} monitored keys with the highest counts, highest first.
+     */
+    public Iterable<Key> top(int k) {
+        Integer[] order = new Integer[n];
+        for (int s = 0; s < n; s++) {
+            order[s] = s;
+        }
+        Arrays.sort(order, Comparator.comparingLong((Integer s) -> counts[s]).reversed());
+        Queue<Key> queue = new Queue<>();
+        for (int j = 0; j < Math.min(k, n); j++) {
+            queue.enqueue(keys[order[j]]);
+        }
+        return queue;
+    }
+
+    /**
+     * Adds the stream summarized by {@code that} to this summary. A key missing
+     * from one summary is taken to have that summary's smallest count, as an
+     * upper bound, and the {@code capacity} keys with the highest combined
+     * counts are kept. With equal capacities, either both summaries have room
+     * left, so no key was ever dropped, or the merged summary is full and its
+     * smallest count is at least the sum of the two smallest counts, which
+     * bounds the keys missing from both.
+     *
+     * @throws IllegalArgumentException if the capacities differ
+     */
+    @SuppressWarnings("unchecked")
+    public void merge(SpaceSaving<Key> that) {
+        if (capacity != that.capacity) {
+            throw new IllegalArgumentException("only summaries with the same capacity can be merged");
+        }
+        long thisMin = minCount();
+        long thatMin = that.minCount();
+        int m = n + that.n;
+        Key[] mergedKeys = (Key[]) new Object[m];
+        long[] mergedCounts = new long[m];
+        long[] mergedErrors = new long[m];
+        int size = 0;
+        for (int s = 0; s < n; s++) {
+            int i = that.find(keys[s]);
+            long count = i >= 0 ? that.counts[that.index[i] - 1] : thatMin;
+            long error = i >= 0 ? that.errors[that.index[i] - 1] : thatMin;
+            mergedKeys[size] = keys[s];
+            mergedCounts[size] = counts[s] + count;
+            mergedErrors[size++] = errors[s] + error;
+        }
+        for (int s = 0; s < that.n; s++) {
+            if (find(that.keys[s]) >= 0) continue;
+            mergedKeys[size] = that.keys[s];
+            mergedCounts[size] = that.counts[s] + thisMin;
+            mergedErrors[size++] = that.errors[s] + thisMin;
+        }
+
+        Integer[] order = new Integer[size];
+        for (int j = 0; j < size; j++) {
+            order[j] = j;
+        }
+        Arrays.sort(order, Comparator.comparingLong((Integer j) -> mergedCounts[j]).reversed());
+        Arrays.fill(index, 0);
+        Arrays.fill(keys, null);
+        n = Math.min(capacity, size);
+        // in descending order the slots are a max-heap; reversed they are a min-heap
+        for (int s = 0; s < n; s++) {
+            int j = order[n - 1 - s];
+            keys[s] = mergedKeys[j];
+            counts[s] = mergedCounts[j];
+            errors[s] = mergedErrors[j];
+            link(s);
+        }
+        total += that.total;
+    }
+
+    private void exchange(int i, int j) {
+        Key key = keys[i];
+        keys[i] = keys[j];
+        keys[j] = key;
+        long count = counts[i];
+        counts[i] = counts[j];
+        counts[j] = count;
+        long error = errors[i];
+        errors[i] = errors[j];
+        errors[j] = error;
+        int p = position[i];
+        position[i] = position[j];
+        position[j] = p;
+        index[position[i]] = i + 1;
+        index[position[j]] = j + 1;
+    }
+
+    private void swim(int i) {
+        while (i > 0 && counts[i] < counts[(i - 1) / 2]) {
+            exchange(i, (i - 1) / 2);
+            i = (i - 1) / 2;
+        }
+    }
+
+    private void sink(int i) {
+        while (2 * i + 1 < n) {
+            int j = 2 * i + 1;
+            if (j + 1 < n && counts[j + 1] < counts[j]) j++;
+            if (counts[i] <= counts[j]) break;
+            exchange(i, j);
+            i = j;
+        }
+    }
+
+    /**
+     * Prints the {@code k} most frequent words of standard input, as found by
+     * a summary of the given capacity, with their estimated counts.
+     */
+    public static void main(String[] args) {
+        int capacity = Integer.parseInt(args[0]);
+        int k = Integer.parseInt(args[1]);
+        SpaceSaving<String> summary = new SpaceSaving<>(capacity);
+        while (!StdIn.isEmpty()) {
+            summary.add(StdIn.readString());
+        }
+        for (String word : summary.top(k)) {
+            StdOut.println(word + " " + summary.estimate(word));
+        }
+    }
+}
@@ -151,6 +151,9 @@ import java.util.regex.Pattern;
  *  <p>
  *  Historical note: {@code StdIn} preceded {@code Scanner}; when
  *  {@code Scanner} was introduced, this class was reimplemented to use {@code Scanner}.
+ *  It now reads through a buffered byte-level tokenizer by default, which
+ *  parses numbers without creating a {@code String} per token; set the system
+ *  property {@code algorithms.useScanner} to {@code true} to use {@code Scanner}.
  *  <p>
  *  <b>Using standard input.</b>
  *  Standard input is fundamental operating system abstraction, on Mac OS X,
@@ -200,9 +203,13 @@ public final class StdIn {
     // used to read the entire input
     private static final Pattern EVERYTHING_PATTERN = Pattern.compile("\\A");
 
+    // read through a Scanner instead of the byte-level tokenizer?
+    private static final boolean USE_SCANNER = Boolean.getBoolean("algorithms.useScanner");
+
     /*** end: section (1 of 2) of code duplicated from In to StdIn. */
 
     private static Scanner scanner;
+    private static Tokenizer tokenizer;
 
     // it doesn't make sense to instantiate this class
     private StdIn() { }
@@ -219,6 +226,7 @@ public final class StdIn {
      *         for whitespace); {@code false} otherwise
      */
     public static boolean isEmpty() {
+        if (tokenizer != null) return tokenizer.isEmpty();
         return !scanner.hasNext();
     }
 
@@ -232,6 +240,7 @@ public final class StdIn {
      *         {@code false} otherwise
      */
     public static boolean hasNextLine() {
+        if (tokenizer != null) return tokenizer.hasNextLine();
         return scanner.hasNextLine();
     }
 
@@ -244,6 +253,7 @@ public final class StdIn {
      *         {@code false} otherwise
      */
     public static boolean hasNextChar() {
+        if (tokenizer != null) return tokenizer.hasNextChar();
         scanner.useDelimiter(EMPTY_PATTERN);
         boolean result = scanner.hasNext();
         scanner.useDelimiter(WHITESPACE_PATTERN);
@@ -258,6 +268,7 @@ public final class StdIn {
      *         {@code null} if no such line
      */
     public static String readLine() {
+        if (tokenizer != null) return tokenizer.readLine();
         String line;
         try {
             line = scanner.nextLine();
@@ -275,6 +286,7 @@ public final class StdIn {
      * @throws NoSuchElementException if standard input is empty
      */
     public static char readChar() {
+        if (tokenizer != null) return tokenizer.readChar();
         scanner.useDelimiter(EMPTY_PATTERN);
         String ch = scanner.next();
         assert ch.length() == 1 : "Internal (Std)In.readChar() error!"
@@ -291,6 +303,7 @@ public final class StdIn {
      * @throws NoSuchElementException if standard input is empty
      */
     public static String readAll() {
+        if (tokenizer != null) return tokenizer.readAll();
         if (!scanner.hasNextLine())
             return "";
 
@@ -308,6 +321,7 @@ public final class StdIn {
      * @throws NoSuchElementException if standard input is empty
      */
     public static String readString() {
+        if (tokenizer != null) return tokenizer.readString();
         return scanner.next();
     }
 
@@ -319,6 +333,7 @@ public final class StdIn {
      * @throws InputMismatchException if the next token cannot be parsed as an {@code int}
      */
     public static int readInt() {
+        if (tokenizer != null) return tokenizer.readInt();
         return scanner.nextInt();
     }
 
@@ -330,6 +345,7 @@ public final class StdIn {
      * @throws InputMismatchException if the next token cannot be parsed as a {@code double}
      */
     public static double readDouble() {
+        if (tokenizer != null) return tokenizer.readDouble();
         return scanner.nextDouble();
     }
 
@@ -341,6 +357,7 @@ public final class StdIn {
      * @throws InputMismatchException if the next token cannot be parsed as a {@code float}
      */
     public static float readFloat() {
+        if (tokenizer != null) return tokenizer.readFloat();
         return scanner.nextFloat();
     }
 
@@ -352,6 +369,7 @@ public final class StdIn {
      * @throws InputMismatchException if the next token cannot be parsed as a {@code long}
      */
     public static long readLong() {
+        if (tokenizer != null) return tokenizer.readLong();
         return scanner.nextLong();
     }
 
@@ -363,6 +381,7 @@ public final class StdIn {
      * @throws InputMismatchException if the next token cannot be parsed as a {@code short}
      */
     public static short readShort() {
+        if (tokenizer != null) return tokenizer.readShort();
         return scanner.nextShort();
     }
 
@@ -374,6 +393,7 @@ public final class StdIn {
      * @throws InputMismatchException if the next token cannot be parsed as a {@code byte}
      */
     public static byte readByte() {
+        if (tokenizer != null) return tokenizer.readByte();
         return scanner.nextByte();
     }
 
@@ -481,7 +501,12 @@ public final class StdIn {
      * If StdIn changes, use this to reinitialize the scanner.
      */
     private static void resync() {
-        setScanner(new Scanner(new java.io.BufferedInputStream(System.in), CHARSET_NAME));
+        if (USE_SCANNER) {
+            setScanner(new Scanner(new java.io.BufferedInputStream(System.in), CHARSET_NAME));
+        }
+        else {
+            tokenizer = new Tokenizer(System.in);
+        }
     }
 
     private static void setScanner(Scanner scanner) {
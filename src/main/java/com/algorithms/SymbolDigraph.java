@@ -1,75 +1,113 @@
 package com.algorithms;
 
+import java.io.UncheckedIOException;
+
+/**
+ * Digraph whose vertices are named by strings, read in a single pass like
+ * {@link SymbolGraph}, with an edge from the first name on each line to each
+ * of the others. Like a symbol graph, it can be saved to a snapshot and
+ * reopened from it.
+ */
 public class SymbolDigraph {
-  private ST<String, Integer> st; // string -> index
-  private String[] keys; // index -> string
-  private Digraph graph; // the underlying digraph
+  private final NameTable st; // string -> index, and index -> string
+  private final SymbolGraphSnapshot snapshot; // or these, from a snapshot
+  private final SymbolGraphSnapshot.Source source;
+  private final CSRDigraph csr; // the underlying digraph
+  private Digraph graph; // built from csr on first use
 
   public SymbolDigraph(String filename, String delimiter) {
-    st = new ST<>();
+    SymbolGraphReader reader = new SymbolGraphReader(filename, delimiter);
+    st = reader.names();
+    snapshot = null;
+    source = reader.source();
+    csr = reader.digraph();
+  }
 
-    // first pass builds the index by reading strings to associate
-    // distinct strings with an index
-    In in = new In(filename);
-    while (in.hasNextLine()) {
-      String[] a = in.readLine().split(delimiter);
-      for (int i = 0; i < a.length; i++) {
-        if (!st.contains(a[i])) {
-          st.put(a[i], st.size());
+  /**
+   * Opens the digraph from the snapshot file {@code cache} if it was saved
+   * from the current contents of {@code filename} with the same delimiter.
+   * Otherwise reads {@code filename} and saves a new snapshot to {@code cache}.
+   * The snapshot is best-effort: it is not saved for a URL or classpath
+   * resource, which has no size or time to check it against, and a failure
+   * to write it is reported on standard error without failing the constructor.
+   */
+  public SymbolDigraph(String filename, String delimiter, String cache) {
+    SymbolGraphSnapshot fresh = SymbolGraphSnapshot.openIfFresh(cache, filename, delimiter, true);
+    if (fresh != null) {
+      st = null;
+      snapshot = fresh;
+      source = fresh.source();
+      csr = fresh.digraph();
+    } else {
+      SymbolGraphReader reader = new SymbolGraphReader(filename, delimiter);
+      st = reader.names();
+      snapshot = null;
+      source = reader.source();
+      csr = reader.digraph();
+      if (source != null) {
+        try {
+          save(cache);
+        } catch (UncheckedIOException e) {
+          System.err.println("Could not save snapshot " + cache + ": " + e.getCause().getMessage());
         }
       }
     }
+  }
 
-    // inverted index to get string keys in an array
-    keys = new String[st.size()];
-    for (String name : st.keys()) {
-      keys[st.get(name)] = name;
+  /**
+   * Saves the names and edges of this digraph to a snapshot file.
+   *
+   * @throws IllegalStateException if the digraph was not read from a local file
+   */
+  public void save(String cache) {
+    if (source == null) {
+      throw new IllegalStateException("only a digraph read from a local file can be saved");
     }
-
-    // second pass builds the digraph by connecting first vertex on each
-    // line to all others
-    graph = new Digraph(st.size());
-    in = new In(filename);
-    while (in.hasNextLine()) {
-      String[] a = in.readLine().split(delimiter);
-      int v = st.get(a[0]);
-      for (int i = 1; i < a.length; i++) {
-        int w = st.get(a[i]);
-        graph.addEdge(v, w);
-      }
+    String[] names = new String[csr.V()];
+    for (int v = 0; v < names.length; v++) {
+      names[v] = nameOf(v);
     }
+    SymbolGraphSnapshot.write(cache, source, names, csr);
   }
 
   public boolean contains(String s) {
-    return st.contains(s);
+    return indexOf(s) >= 0;
   }
 
   @Deprecated
   public int index(String s) {
-    return st.get(s);
+    return indexOf(s);
   }
 
+  /** Returns the vertex named {@code s}, or -1 if there is none. */
   public int indexOf(String s) {
-    return st.get(s);
+    if (st != null) return st.indexOf(s);
+    return snapshot.indexOf(s);
   }
 
   @Deprecated
   public String name(int v) {
-    return keys[v];
+    return nameOf(v);
   }
 
   public String nameOf(int v) {
-    return keys[v];
+    if (st != null) return st.name(v);
+    return snapshot.name(v);
   }
 
   public Digraph G() {
-    return graph;
+    return digraph();
   }
 
-  public Digraph digraph() {
+  public synchronized Digraph digraph() {
+    if (graph == null) graph = new Digraph(csr);
     return graph;
   }
 
+  public CSRDigraph csr() {
+    return csr;
+  }
+
   public static void main(String[] args) {
     String filename = args[0];
     String delimiter = args[1];
@@ -1,56 +1,110 @@
 package com.algorithms;
 
+import java.io.UncheckedIOException;
+
+/**
+ * Graph whose vertices are named by strings, read from a file in which each
+ * line is a vertex name followed by the names of its neighbors, separated by
+ * {@code sp}. The file is read in a single pass, which numbers the names in
+ * order of first appearance and lays the edges out as a {@link CSRGraph}; it
+ * may be gzip-compressed. {@link #G()} returns the same graph as a
+ * {@link Graph}, with adjacency lists in the order that adding the edges one
+ * by one would give.
+ * <p>
+ * A graph can be saved to a binary snapshot and reopened from it with
+ * {@link #SymbolGraph(String, String, String)}, which skips reading the file
+ * while the snapshot is up to date. The names of a reopened graph are read
+ * from the memory-mapped snapshot rather than held on the heap.
+ */
 public class SymbolGraph {
-    private ST<String, Integer> st;
-    private String[] keys;
-    private Graph G;
+    private final NameTable st;                 // string -> index, and index -> string
+    private final SymbolGraphSnapshot snapshot; // or these, from a snapshot
+    private final SymbolGraphSnapshot.Source source;
+    private final CSRGraph csr;
+    private Graph G;                            // built from csr on first use
 
     public SymbolGraph(String stream, String sp) {
-        st = new ST<String, Integer>();
-        In in = new In(stream);
+        SymbolGraphReader reader = new SymbolGraphReader(stream, sp);
+        st = reader.names();
+        snapshot = null;
+        source = reader.source();
+        csr = reader.graph();
+    }
 
-        while (in.hasNextLine()) {
-            String[] a = in.readLine().split(sp);
-            for (int i = 0; i < a.length; i++) {
-                if (!st.contains(a[i]))
-                    st.put(a[i], st.size());
-            }
+    /**
+     * Opens the graph from the snapshot file {@code cache} if it was saved
+     * from the current contents of {@code stream} with delimiter {@code sp}.
+     * Otherwise reads {@code stream} and saves a new snapshot to {@code cache}.
+     * The snapshot is best-effort: it is not saved for a URL or classpath
+     * resource, which has no size or time to check it against, and a failure
+     * to write it is reported on standard error without failing the constructor.
+     */
+    public SymbolGraph(String stream, String sp, String cache) {
+        SymbolGraphSnapshot fresh = SymbolGraphSnapshot.openIfFresh(cache, stream, sp, false);
+        if (fresh != null) {
+            st = null;
+            snapshot = fresh;
+            source = fresh.source();
+            csr = fresh.graph();
         }
-
-        keys = new String[st.size()];
-
-        for (String name : st.keys()) {
-            keys[st.get(name)] = name;
+        else {
+            SymbolGraphReader reader = new SymbolGraphReader(stream, sp);
+            st = reader.names();
+            snapshot = null;
+            source = reader.source();
+            csr = reader.graph();
+            if (source != null) {
+                try {
+                    save(cache);
+                }
+                catch (UncheckedIOException e) {
+                    System.err.println("Could not save snapshot " + cache + ": " + e.getCause().getMessage());
+                }
+            }
         }
+    }
 
-        G = new Graph(st.size());
-        in = new In(stream);
-
-        while (in.hasNextLine()) {
-            String[] a = in.readLine().split(sp);
-            int v = st.get(a[0]);
-            for (int i = 1; i < a.length; i++) {
-                G.addEdge(v, st.get(a[i]));
-            }
+    /**
+     * Saves the names and edges of this graph to a snapshot file, for
+     * {@link #SymbolGraph(String, String, String)} to reopen.
+     *
+     * @throws IllegalStateException if the graph was not read from a local file
+     */
+    public void save(String cache) {
+        if (source == null) throw new IllegalStateException("only a graph read from a local file can be saved");
+        String[] names = new String[csr.V()];
+        for (int v = 0; v < names.length; v++) {
+            names[v] = name(v);
         }
+        SymbolGraphSnapshot.write(cache, source, names, csr);
     }
 
     public boolean contains(String s) {
-        return st.contains(s);
+        return index(s) >= 0;
     }
 
+    /**
+     * Returns the vertex named {@code s}, or -1 if there is none.
+     */
     public int index(String s) {
-        return st.get(s);
+        if (st != null) return st.indexOf(s);
+        return snapshot.indexOf(s);
     }
 
     public String name(int v) {
-        return keys[v];
+        if (st != null) return st.name(v);
+        return snapshot.name(v);
     }
 
-    public Graph G() {
+    public synchronized Graph G() {
+        if (G == null) G = new Graph(csr);
         return G;
     }
 
+    public CSRGraph csr() {
+        return csr;
+    }
+
     public static void main(String[] args) {
         String filename = args[0];
         String delim = args[1];
@@ -0,0 +1,171 @@
+package com.algorithms;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Reads a symbol graph file in a single pass. Each line is a vertex name
+ * followed by the names of its neighbors, separated by a delimiter regex.
+ * Names are numbered by a {@link NameTable} as they appear and edges are
+ * buffered in {@code int} arrays, which are then laid out as a CSR graph or
+ * digraph. Lines are split exactly as {@link String#split(String)} would split
+ * them, but a delimiter without regex metacharacters is found by
+ * {@link String#indexOf(String, int)}, and names are looked up in place.
+ * Input compressed with gzip is detected by its magic number and decompressed
+ * as it is read. A local file is checksummed as it is read, to identify it
+ * in a {@link SymbolGraphSnapshot}.
+ */
+final class SymbolGraphReader {
+    private static final String METACHARACTERS = "\\^$.|?*+()[]{}";
+
+    private final NameTable names = new NameTable();
+    private int[] from = new int[16];
+    private int[] to = new int[16];
+    private int E;
+    private final CRC32 crc = new CRC32();      // of the raw bytes of a local file
+    private SymbolGraphSnapshot.Source source;  // null unless reading a local file
+
+    // field boundaries of the current line, for literal delimiters
+    private int[] starts = new int[16];
+    private int[] ends = new int[16];
+
+    /**
+     * Reads the named file, classpath resource or URL, gzip-compressed or not.
+     */
+    SymbolGraphReader(String filename, String delimiter) {
+        File file = new File(filename);
+        long size = file.length();
+        long modified = file.lastModified();
+        try (InputStream is = open(filename)) {
+            read(new In(is), delimiter);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + filename, e);
+        }
+        if (file.isFile()) source = new SymbolGraphSnapshot.Source(size, modified, crc.getValue(), delimiter);
+    }
+
+    private InputStream open(String name) throws IOException {
+        File file = new File(name);
+        InputStream is;
+        if (file.exists()) {
+            is = new CheckedInputStream(new FileInputStream(file), crc);
+        }
+        else {
+            URL url = SymbolGraphReader.class.getResource(name);
+            if (url == null) url = new URL(name);
+            is = url.openStream();
+        }
+        BufferedInputStream in = new BufferedInputStream(is, 1 << 16);
+        in.mark(2);
+        int b0 = in.read();
+        int b1 = in.read();
+        in.reset();
+        if (b0 == 0x1f && b1 == 0x8b) return new GZIPInputStream(in, 1 << 16);
+        return in;
+    }
+
+    private static boolean isLiteral(String delimiter) {
+        if (delimiter.isEmpty()) return false;
+        for (int i = 0; i < delimiter.length(); i++) {
+            if (METACHARACTERS.indexOf(delimiter.charAt(i)) >= 0) return false;
+        }
+        return true;
+    }
+
+    private void read(In in, String delimiter) {
+        Pattern pattern = isLiteral(delimiter) ? null : Pattern.compile(delimiter);
+        while (in.hasNextLine()) {
+            String line = in.readLine();
+            if (pattern == null) readLine(line, delimiter);
+            else                 readFields(pattern.split(line));
+        }
+        names.trim();
+    }
+
+    // connects the first field of the line to the others
+    private void readFields(String[] a) {
+        if (a.length == 0) return;
+        int v = names.intern(a[0], 0, a[0].length());
+        for (int i = 1; i < a.length; i++) {
+            addEdge(v, names.intern(a[i], 0, a[i].length()));
+        }
+    }
+
+    // readFields(line.split(delimiter)) for a literal delimiter, without the substrings
+    private void readLine(String line, String delimiter) {
+        int k = 0;
+        int start = 0;
+        for (int i = line.indexOf(delimiter); i >= 0; i = line.indexOf(delimiter, start)) {
+            field(k++, start, i);
+            start = i + delimiter.length();
+        }
+        if (k == 0) {
+            readFields(new String[] { line });
+            return;
+        }
+        field(k++, start, line.length());
+        // like split, drop trailing empty fields
+        while (k > 0 && starts[k - 1] == ends[k - 1]) k--;
+        if (k == 0) return;
+        int v = names.intern(line, starts[0], ends[0]);
+        for (int j = 1; j < k; j++) {
+            addEdge(v, names.intern(line, starts[j], ends[j]));
+        }
+    }
+
+    private void field(int k, int start, int end) {
+        if (k == starts.length) {
+            starts = Arrays.copyOf(starts, 2 * k);
+            ends = Arrays.copyOf(ends, 2 * k);
+        }
+        starts[k] = start;
+        ends[k] = end;
+    }
+
+    private void addEdge(int v, int w) {
+        if (E == from.length) {
+            from = Arrays.copyOf(from, 2 * E);
+            to = Arrays.copyOf(to, 2 * E);
+        }
+        from[E] = v;
+        to[E++] = w;
+    }
+
+    NameTable names() {
+        return names;
+    }
+
+    /**
+     * Returns the identity of the file read, or {@code null} if it was not a local file.
+     */
+    SymbolGraphSnapshot.Source source() {
+        return source;
+    }
+
+    /**
+     * Returns the undirected graph of the edges read, with each edge added as
+     * {@code Graph.addEdge} would have added it in input order.
+     */
+    CSRGraph graph() {
+        return CSRGraph.fromEdges(names.size(), from, to, E);
+    }
+
+    /**
+     * Returns the digraph of the edges read, with each edge added as
+     * {@code Digraph.addEdge} would have added it in input order.
+     */
+    CSRDigraph digraph() {
+        return CSRDigraph.fromEdges(names.size(), from, to, E);
+    }
+}
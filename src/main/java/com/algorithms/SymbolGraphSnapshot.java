@@ -0,0 +1,387 @@
+package com.algorithms;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.CRC32;
+
+/**
+ * Binary snapshot of a symbol graph or digraph, so that a restart can skip
+ * reading the source file. The snapshot is memory-mapped, and the names are
+ * looked up and decoded straight from the mapped bytes, so they never all
+ * sit on the Java heap; the adjacency arrays are copied out in bulk into a
+ * CSR graph. The snapshot records the size, modification time and CRC-32 of
+ * the source file, and the delimiter, and is reused only while they match.
+ * A source whose modification time changed but whose size did not is
+ * checksummed again, so touching or copying it does not force a rebuild;
+ * if it still matches, the new time is written into the snapshot, so the
+ * next open takes the fast path again.
+ * <p>
+ * File layout (big-endian), version 1:
+ * <pre>
+ *   int    magic    0x414c4753 ("ALGS")
+ *   int    version  1
+ *   int    flags    bit 0: directed
+ *   int    V
+ *   long   N        number of adjacency entries (2E if undirected, E if directed)
+ *   long   size     of the source file
+ *   long   modified time of the source file, in ms since the epoch
+ *   long   checksum CRC-32 of the source file
+ *   int    M        number of name slots, a power of 2
+ *   int    D        length of the delimiter in UTF-8 bytes
+ *   long   B        total length of the names in UTF-8 bytes
+ *   byte[D]         delimiter, padded to a multiple of 8 bytes
+ *   long[V + 1]     name offsets: the name of v is bytes [start[v], start[v + 1]) of the names
+ *   int[V]          String.hashCode() of each name
+ *   int[M]          name slots: 1 + the vertex whose name probes here, or 0, as in NameTable
+ *   int[V + 1]      adjacency offsets: entries of v are [offsets[v], offsets[v + 1])
+ *   int[N]          targets
+ *   byte[B]         names
+ * </pre>
+ */
+final class SymbolGraphSnapshot {
+    private static final int MAGIC = 0x414c4753;
+    private static final int VERSION = 1;
+    private static final int DIRECTED = 1;
+    private static final int HEADER_BYTES = 64;
+
+    // mapped in 1 GB segments like MappedGraph; the long and int fields are
+    // aligned to their size, so only a name can straddle two segments
+    private static final int SEGMENT_BITS = 30;
+    private static final long SEGMENT_MASK = (1L << SEGMENT_BITS) - 1;
+
+    private final MappedByteBuffer[] segments;
+    private final int V;
+    private final long N;
+    private final boolean directed;
+    private final int slotMask;
+    private final long nameOffsetsAt;
+    private final long hashesAt;
+    private final long slotsAt;
+    private final long offsetsAt;
+    private final long targetsAt;
+    private final long namesAt;
+
+    /**
+     * The identity of a source file, as recorded in a snapshot.
+     */
+    static final class Source {
+        final long size;
+        final long modified;
+        final long checksum;
+        final String delimiter;
+
+        Source(long size, long modified, long checksum, String delimiter) {
+            this.size = size;
+            this.modified = modified;
+            this.checksum = checksum;
+            this.delimiter = delimiter;
+        }
+    }
+
+    private SymbolGraphSnapshot(String filename) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(filename, "r");
+             FileChannel channel = file.getChannel()) {
+            long size = channel.size();
+            if (size < HEADER_BYTES) {
+                throw new IllegalArgumentException(filename + " is not a symbol graph snapshot");
+            }
+            int count = (int) ((size + SEGMENT_MASK) >>> SEGMENT_BITS);
+            segments = new MappedByteBuffer[count];
+            for (int k = 0; k < count; k++) {
+                long start = (long) k << SEGMENT_BITS;
+                segments[k] = channel.map(FileChannel.MapMode.READ_ONLY, start,
+                                          Math.min(size - start, 1L << SEGMENT_BITS));
+            }
+            if (getInt(0) != MAGIC) {
+                throw new IllegalArgumentException(filename + " is not a symbol graph snapshot");
+            }
+            if (getInt(4) != VERSION) {
+                throw new IllegalArgumentException("Unsupported snapshot version " + getInt(4));
+            }
+            directed = (getInt(8) & DIRECTED) != 0;
+            V = getInt(12);
+            N = getLong(16);
+            int M = getInt(48);
+            slotMask = M - 1;
+            nameOffsetsAt = align(HEADER_BYTES + getInt(52));
+            hashesAt = nameOffsetsAt + 8L * (V + 1);
+            slotsAt = hashesAt + 4L * V;
+            offsetsAt = slotsAt + 4L * M;
+            targetsAt = offsetsAt + 4L * (V + 1);
+            namesAt = targetsAt + 4L * N;
+            if (V < 0 || N < 0 || N > Integer.MAX_VALUE || Integer.bitCount(M) != 1
+                    || size < namesAt + getLong(56)) {
+                throw new IllegalArgumentException(filename + " is truncated or corrupt");
+            }
+        }
+    }
+
+    /**
+     * Opens the snapshot with the given name if it exists, is of the right
+     * kind, and was saved from the current contents of {@code source} with
+     * the same delimiter; returns {@code null} otherwise.
+     */
+    static SymbolGraphSnapshot openIfFresh(String filename, String source, String delimiter, boolean directed) {
+        if (!new File(filename).isFile()) return null;
+        File file = new File(source);
+        if (!file.isFile()) return null;
+        SymbolGraphSnapshot snapshot;
+        try {
+            snapshot = new SymbolGraphSnapshot(filename);
+        }
+        catch (IOException | IllegalArgumentException e) {
+            return null;
+        }
+        Source recorded = snapshot.source();
+        if (snapshot.directed != directed || !recorded.delimiter.equals(delimiter)) return null;
+        if (recorded.size != file.length()) return null;
+        long modified = file.lastModified();
+        if (recorded.modified != modified) {
+            if (recorded.checksum != checksum(file)) return null;
+            // same contents: record the new time, so later opens skip the checksum
+            if (touch(filename, modified)) {
+                try {
+                    snapshot = new SymbolGraphSnapshot(filename);
+                }
+                catch (IOException | IllegalArgumentException e) {
+                    return null;
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    // rewrites the modification time recorded in the header; false if the
+    // snapshot cannot be written, in which case the next open checksums again
+    private static boolean touch(String filename, long modified) {
+        try (RandomAccessFile file = new RandomAccessFile(filename, "rw")) {
+            file.seek(32);
+            file.writeLong(modified);
+            return true;
+        }
+        catch (IOException e) {
+            return false;
+        }
+    }
+
+    // CRC-32 of the whole file
+    private static long checksum(File file) {
+        CRC32 crc = new CRC32();
+        byte[] buf = new byte[1 << 16];
+        try (InputStream in = new FileInputStream(file)) {
+            for (int n = in.read(buf); n >= 0; n = in.read(buf)) {
+                crc.update(buf, 0, n);
+            }
+        }
+        catch (IOException e) {
+            return -1;
+        }
+        return crc.getValue();
+    }
+
+    private static long align(long position) {
+        return (position + 7) & ~7L;
+    }
+
+    private MappedByteBuffer segment(long position) {
+        return segments[(int) (position >>> SEGMENT_BITS)];
+    }
+
+    private byte getByte(long position) {
+        return segment(position).get((int) (position & SEGMENT_MASK));
+    }
+
+    private int getInt(long position) {
+        return segment(position).getInt((int) (position & SEGMENT_MASK));
+    }
+
+    private long getLong(long position) {
+        return segment(position).getLong((int) (position & SEGMENT_MASK));
+    }
+
+    private byte[] getBytes(long position, int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = getByte(position + i);
+        }
+        return bytes;
+    }
+
+    // copies dst.length ints starting at position, a segment at a time
+    private void getInts(long position, int[] dst) {
+        int i = 0;
+        while (i < dst.length) {
+            MappedByteBuffer segment = segment(position);
+            int at = (int) (position & SEGMENT_MASK);
+            int n = Math.min(dst.length - i, (segment.limit() - at) / 4);
+            ByteBuffer ints = segment.duplicate();
+            ints.position(at);
+            ints.slice().asIntBuffer().get(dst, i, n);
+            i += n;
+            position += 4L * n;
+        }
+    }
+
+    Source source() {
+        byte[] delimiter = getBytes(HEADER_BYTES, getInt(52));
+        return new Source(getLong(24), getLong(32), getLong(40), new String(delimiter, StandardCharsets.UTF_8));
+    }
+
+    int size() {
+        return V;
+    }
+
+    /**
+     * Returns the vertex named {@code name}, or -1 if there is none.
+     */
+    int indexOf(String name) {
+        int h = name.hashCode();
+        byte[] bytes = null;
+        for (int i = NameTable.slot(h, slotMask); ; i = (i + 1) & slotMask) {
+            int slot = getInt(slotsAt + 4L * i);
+            if (slot == 0) return -1;
+            int v = slot - 1;
+            if (getInt(hashesAt + 4L * v) != h) continue;
+            if (bytes == null) bytes = name.getBytes(StandardCharsets.UTF_8);
+            if (nameEquals(v, bytes)) return v;
+        }
+    }
+
+    private boolean nameEquals(int v, byte[] bytes) {
+        long start = getLong(nameOffsetsAt + 8L * v);
+        long end = getLong(nameOffsetsAt + 8L * (v + 1));
+        if (end - start != bytes.length) return false;
+        for (int i = 0; i < bytes.length; i++) {
+            if (getByte(namesAt + start + i) != bytes[i]) return false;
+        }
+        return true;
+    }
+
+    String name(int v) {
+        if (v < 0 || v >= V) throw new IndexOutOfBoundsException("vertex " + v + " is not between 0 and " + (V - 1));
+        long start = getLong(nameOffsetsAt + 8L * v);
+        long end = getLong(nameOffsetsAt + 8L * (v + 1));
+        return new String(getBytes(namesAt + start, (int) (end - start)), StandardCharsets.UTF_8);
+    }
+
+    CSRGraph graph() {
+        int[] offsets = new int[V + 1];
+        int[] targets = new int[(int) N];
+        getInts(offsetsAt, offsets);
+        getInts(targetsAt, targets);
+        return new CSRGraph(V, targets.length / 2, offsets, targets);
+    }
+
+    CSRDigraph digraph() {
+        int[] offsets = new int[V + 1];
+        int[] targets = new int[(int) N];
+        getInts(offsetsAt, offsets);
+        getInts(targetsAt, targets);
+        int[] indegree = new int[V];
+        for (int w : targets) {
+            indegree[w]++;
+        }
+        return new CSRDigraph(V, offsets, targets, indegree);
+    }
+
+    /**
+     * Writes a snapshot of an undirected symbol graph to the named file.
+     */
+    static void write(String filename, Source source, String[] names, CSRGraph G) {
+        int V = names.length;
+        int[] offsets = new int[V + 1];
+        for (int v = 0; v < V; v++) {
+            offsets[v + 1] = G.end(v);
+        }
+        int[] targets = new int[offsets[V]];
+        for (int i = 0; i < targets.length; i++) {
+            targets[i] = G.target(i);
+        }
+        write(filename, source, 0, names, offsets, targets);
+    }
+
+    /**
+     * Writes a snapshot of a symbol digraph to the named file.
+     */
+    static void write(String filename, Source source, String[] names, CSRDigraph G) {
+        int V = names.length;
+        int[] offsets = new int[V + 1];
+        for (int v = 0; v < V; v++) {
+            offsets[v + 1] = G.end(v);
+        }
+        int[] targets = new int[offsets[V]];
+        for (int i = 0; i < targets.length; i++) {
+            targets[i] = G.target(i);
+        }
+        write(filename, source, DIRECTED, names, offsets, targets);
+    }
+
+    // Writes to a temporary file beside the snapshot and renames it into
+    // place, so a crash never leaves a partial snapshot to be mapped.
+    private static void write(String filename, Source source, int flags, String[] names,
+                              int[] offsets, int[] targets) {
+        int V = names.length;
+        int M = Integer.highestOneBit(Math.max(2, 2 * V) - 1) << 1;
+        int[] hashes = new int[V];
+        int[] slots = new int[M];
+        long[] nameOffsets = new long[V + 1];
+        for (int v = 0; v < V; v++) {
+            hashes[v] = names[v].hashCode();
+            int i = NameTable.slot(hashes[v], M - 1);
+            while (slots[i] != 0) i = (i + 1) & (M - 1);
+            slots[i] = v + 1;
+            nameOffsets[v + 1] = nameOffsets[v] + names[v].getBytes(StandardCharsets.UTF_8).length;
+        }
+        byte[] delimiter = source.delimiter.getBytes(StandardCharsets.UTF_8);
+
+        File file = new File(filename);
+        File tmp = new File(filename + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(tmp), 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(flags);
+            out.writeInt(V);
+            out.writeLong(targets.length);
+            out.writeLong(source.size);
+            out.writeLong(source.modified);
+            out.writeLong(source.checksum);
+            out.writeInt(M);
+            out.writeInt(delimiter.length);
+            out.writeLong(nameOffsets[V]);
+            out.write(delimiter);
+            out.write(new byte[(int) (align(delimiter.length) - delimiter.length)]);
+            for (long offset : nameOffsets) out.writeLong(offset);
+            for (int h : hashes) out.writeInt(h);
+            for (int slot : slots) out.writeInt(slot);
+            for (int offset : offsets) out.writeInt(offset);
+            for (int w : targets) out.writeInt(w);
+            for (String name : names) out.write(name.getBytes(StandardCharsets.UTF_8));
+        }
+        catch (IOException e) {
+            tmp.delete();
+            throw new UncheckedIOException("Could not write " + filename, e);
+        }
+        try {
+            Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                       StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (IOException e) {
+            tmp.delete();
+            throw new UncheckedIOException("Could not write " + filename, e);
+        }
+    }
+}
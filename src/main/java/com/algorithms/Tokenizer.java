@@ -0,0 +1,451 @@
+package com.algorithms;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.InputMismatchException;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.Scanner;
+import java.util.regex.Pattern;
+
+/**
+ *  Byte-level replacement for the {@link java.util.Scanner} behind {@link In}
+ *  and {@link StdIn}. Input is read into one large reusable buffer and
+ *  numbers are parsed straight from the bytes, so reading an {@code int} or a
+ *  {@code double} creates no {@code String}. Input is assumed to be UTF-8.
+ *  <p>
+ *  Tokens are separated by {@link Character#isWhitespace(int)} characters and
+ *  lines end at \n, \r, \r\n, 0x2028, 0x2029 or 0x0085, as with the Scanner.
+ *  Unlike the Scanner, a token that fails to parse as a number is consumed
+ *  before the {@link InputMismatchException} is thrown.
+ */
+final class Tokenizer {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    // largest integer that a double represents exactly, and the powers of ten
+    // that are exact as doubles; together they allow Clinger's fast path
+    private static final long MAX_EXACT = 1L << 53;
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    // integers with US-style thousands separators, which Scanner also accepts
+    private static final Pattern GROUPED_NUMBER
+            = Pattern.compile("[+-]?[1-9]\\d?\\d?(,\\d{3})+");
+
+    // the floats that Scanner accepts in Locale.US, written in ASCII: decimals
+    // with or without thousands separators, hexadecimals with a point, NaN and
+    // Infinity; unlike Double.parseDouble, no d or f suffix and no hex integer
+    private static final Pattern FLOAT = Pattern.compile(
+            "[+-]?(\\d+|[1-9]\\d?\\d?(,\\d{3})+)(\\.\\d*)?([eE][+-]?\\d+)?"
+            + "|[+-]?\\.\\d+([eE][+-]?\\d+)?"
+            + "|[+-]?0[xX][0-9a-fA-F]*\\.[0-9a-fA-F]+([pP][+-]?\\d+)?"
+            + "|[+-]?(NaN|Infinity)");
+
+    private final InputStream in;
+    private byte[] buf = new byte[BUFFER_SIZE];
+    private int pos;        // next unread byte
+    private int limit;      // one past the last byte read into buf
+    private boolean eof;    // has the underlying stream been exhausted?
+    private char pending;   // low surrogate left over from readChar(), or 0
+
+    Tokenizer(InputStream in) {
+        this.in = in;
+    }
+
+    // Reads more input, first moving the unread bytes to the front of the
+    // buffer (or doubling it when already full). Returns how far the unread
+    // bytes moved, so callers can adjust their indices; sets eof at the end.
+    private int refill() {
+        if (eof) return 0;
+        int shift = pos;
+        if (shift > 0) {
+            System.arraycopy(buf, pos, buf, 0, limit - pos);
+            limit -= pos;
+            pos = 0;
+        }
+        else if (limit == buf.length) {
+            buf = Arrays.copyOf(buf, 2 * buf.length);
+        }
+        int n;
+        try {
+            n = in.read(buf, limit, buf.length - limit);
+        }
+        catch (IOException e) {
+            // like Scanner, treat an I/O error as the end of input
+            n = -1;
+        }
+        if (n < 0) eof = true;
+        else       limit += n;
+        return shift;
+    }
+
+    // makes at least k unread bytes available; false if the input ends first
+    private boolean ensure(int k) {
+        while (limit - pos < k) {
+            if (eof) return false;
+            refill();
+        }
+        return true;
+    }
+
+    private static int utf8Length(int b) {
+        if ((b & 0x80) == 0x00) return 1;
+        if ((b & 0xe0) == 0xc0) return 2;
+        if ((b & 0xf0) == 0xe0) return 3;
+        if ((b & 0xf8) == 0xf0) return 4;
+        return 1;
+    }
+
+    private int codePointAt(int i, int len) {
+        int cp = buf[i] & (0xff >>> (len + 1));
+        for (int k = 1; k < len; k++) {
+            cp = (cp << 6) | (buf[i + k] & 0x3f);
+        }
+        return cp;
+    }
+
+    // Length in bytes of the whitespace character at buf[i], or 0 if it is not
+    // whitespace. Returns -1 if a multi-byte character is cut off at limit and
+    // more input may follow.
+    private int whitespaceLength(int i) {
+        int b = buf[i] & 0xff;
+        if (b < 0x80) return Character.isWhitespace(b) ? 1 : 0;
+        int len = utf8Length(b);
+        if (i + len > limit) return eof ? 0 : -1;
+        return Character.isWhitespace(codePointAt(i, len)) ? len : 0;
+    }
+
+    // Index of the first byte of the next token, without consuming anything,
+    // or -1 if only whitespace remains.
+    private int peekToken() {
+        int i = pos;
+        while (true) {
+            if (i == limit) {
+                if (eof) return -1;
+                i -= refill();
+                continue;
+            }
+            int w = whitespaceLength(i);
+            if (w == 0) return i;
+            if (w < 0) {
+                i -= refill();
+                continue;
+            }
+            i += w;
+        }
+    }
+
+    // Skips whitespace and returns the index one past the end of the next
+    // token, which then starts at pos. Like Scanner, consumes the trailing
+    // whitespace when there is no next token.
+    private int nextToken() {
+        int start = peekToken();
+        if (start < 0) {
+            pos = limit;
+            throw new NoSuchElementException();
+        }
+        pos = start;
+        int i = pos;
+        while (true) {
+            if (i == limit) {
+                if (eof) return limit;
+                i -= refill();
+                continue;
+            }
+            int w = whitespaceLength(i);
+            if (w > 0) return i;
+            if (w < 0) {
+                i -= refill();
+                continue;
+            }
+            i = Math.min(limit, i + utf8Length(buf[i] & 0xff));
+        }
+    }
+
+    private String string(int from, int to) {
+        return new String(buf, from, to - from, StandardCharsets.UTF_8);
+    }
+
+    private static String ungroup(String s) {
+        if (GROUPED_NUMBER.matcher(s).matches()) return s.replace(",", "");
+        return s;
+    }
+
+    // Parses s as Scanner.nextDouble() would. A token with non-ASCII chars,
+    // such as other scripts' digits or the infinity sign, goes to a Scanner.
+    private static double parseDouble(String s) {
+        if (!isAscii(s)) return new Scanner(s).useLocale(Locale.US).nextDouble();
+        try {
+            if (FLOAT.matcher(s).matches()) return Double.parseDouble(s.replace(",", ""));
+        }
+        catch (NumberFormatException e) {
+            // a hexadecimal without its exponent
+        }
+        throw new InputMismatchException("For input string: \"" + s + "\"");
+    }
+
+    // parses s as Scanner.nextFloat() would
+    private static float parseFloat(String s) {
+        if (!isAscii(s)) return new Scanner(s).useLocale(Locale.US).nextFloat();
+        try {
+            if (FLOAT.matcher(s).matches()) return Float.parseFloat(s.replace(",", ""));
+        }
+        catch (NumberFormatException e) {
+            // a hexadecimal without its exponent
+        }
+        throw new InputMismatchException("For input string: \"" + s + "\"");
+    }
+
+    private static boolean isAscii(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) >= 0x80) return false;
+        }
+        return true;
+    }
+
+    boolean isEmpty() {
+        return peekToken() < 0;
+    }
+
+    boolean hasNextLine() {
+        return pending != 0 || ensure(1);
+    }
+
+    boolean hasNextChar() {
+        return hasNextLine();
+    }
+
+    String readLine() {
+        if (!ensure(1)) return null;
+        int i = pos;
+        while (true) {
+            if (i == limit) {
+                if (eof) {
+                    String line = string(pos, limit);
+                    pos = limit;
+                    return line;
+                }
+                i -= refill();
+                continue;
+            }
+            int b = buf[i] & 0xff;
+            int separator = 0;
+            if (b == '\n') {
+                separator = 1;
+            }
+            else if (b == '\r') {
+                if (i + 1 == limit && !eof) {
+                    i -= refill();
+                    continue;
+                }
+                separator = (i + 1 < limit && buf[i + 1] == '\n') ? 2 : 1;
+            }
+            else if (b >= 0x80) {
+                int len = utf8Length(b);
+                if (i + len > limit && !eof) {
+                    i -= refill();
+                    continue;
+                }
+                if (i + len <= limit) {
+                    int cp = codePointAt(i, len);
+                    if (cp == 0x0085 || cp == 0x2028 || cp == 0x2029) separator = len;
+                }
+                if (separator == 0) {
+                    i = Math.min(limit, i + len);
+                    continue;
+                }
+            }
+            if (separator > 0) {
+                String line = string(pos, i);
+                pos = i + separator;
+                return line;
+            }
+            i++;
+        }
+    }
+
+    char readChar() {
+        if (pending != 0) {
+            char c = pending;
+            pending = 0;
+            return c;
+        }
+        if (!ensure(1)) throw new NoSuchElementException();
+        int len = utf8Length(buf[pos] & 0xff);
+        if (!ensure(len)) len = limit - pos;
+        String s = string(pos, pos + len);
+        pos += len;
+        if (s.length() > 1) pending = s.charAt(1);
+        return s.charAt(0);
+    }
+
+    // Reads up to len chars into cbuf, decoding all the whole characters
+    // already buffered at once; returns -1 at the end of input.
+    int read(char[] cbuf, int off, int len) {
+        if (len == 0) return 0;
+        if (pending != 0 || !ensure(1)) {
+            if (pending == 0) return -1;
+            cbuf[off] = readChar();
+            return 1;
+        }
+        int end = pos + Math.min(len, limit - pos);
+        if (end < limit || !eof) {
+            // leave the bytes of a character cut off at end for the next read
+            int j = end - 1;
+            while (j > pos && j > end - 4 && (buf[j] & 0xc0) == 0x80) j--;
+            if (j + utf8Length(buf[j] & 0xff) > end) end = j;
+        }
+        if (end == pos) {
+            cbuf[off] = readChar();
+            return 1;
+        }
+        String s = string(pos, end);
+        pos = end;
+        s.getChars(0, s.length(), cbuf, off);
+        return s.length();
+    }
+
+    String readAll() {
+        while (!eof) {
+            refill();
+        }
+        String s = string(pos, limit);
+        pos = limit;
+        if (pending != 0) {
+            s = pending + s;
+            pending = 0;
+        }
+        return s;
+    }
+
+    String readString() {
+        int end = nextToken();
+        String s = string(pos, end);
+        pos = end;
+        return s;
+    }
+
+    // parses the next token as an integer between min and max
+    private long readInteger(long min, long max) {
+        int end = nextToken();
+        int i = pos;
+        boolean negative = false;
+        if (buf[i] == '-' || buf[i] == '+') {
+            negative = buf[i] == '-';
+            i++;
+        }
+        long value = 0;
+        boolean fast = i < end && end - i <= 18;
+        for (int k = i; fast && k < end; k++) {
+            int d = buf[k] - '0';
+            if (d < 0 || d > 9) fast = false;
+            else value = 10 * value + d;
+        }
+        if (fast) {
+            value = negative ? -value : value;
+        }
+        else {
+            String s = string(pos, end);
+            try {
+                value = Long.parseLong(ungroup(s));
+            }
+            catch (NumberFormatException e) {
+                pos = end;
+                throw new InputMismatchException("For input string: \"" + s + "\"");
+            }
+        }
+        pos = end;
+        if (value < min || value > max) {
+            throw new InputMismatchException("Value out of range. Value:\"" + value + "\"");
+        }
+        return value;
+    }
+
+    int readInt() {
+        return (int) readInteger(Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    long readLong() {
+        return readInteger(Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    short readShort() {
+        return (short) readInteger(Short.MIN_VALUE, Short.MAX_VALUE);
+    }
+
+    byte readByte() {
+        return (byte) readInteger(Byte.MIN_VALUE, Byte.MAX_VALUE);
+    }
+
+    double readDouble() {
+        int end = nextToken();
+        int i = pos;
+        boolean negative = false;
+        if (buf[i] == '-' || buf[i] == '+') {
+            negative = buf[i] == '-';
+            i++;
+        }
+
+        // [digits][.digits][(e|E)[sign]digits], with the mantissa still exact
+        long mantissa = 0;
+        int exponent = 0;
+        int digits = 0;
+        boolean fast = true;
+        for (; i < end && buf[i] >= '0' && buf[i] <= '9'; i++, digits++) {
+            mantissa = 10 * mantissa + (buf[i] - '0');
+            if (mantissa >= MAX_EXACT) fast = false;
+        }
+        if (i < end && buf[i] == '.') {
+            for (i++; i < end && buf[i] >= '0' && buf[i] <= '9'; i++, digits++) {
+                mantissa = 10 * mantissa + (buf[i] - '0');
+                if (mantissa >= MAX_EXACT) fast = false;
+                exponent--;
+            }
+        }
+        if (digits > 0 && i < end && (buf[i] == 'e' || buf[i] == 'E')) {
+            i++;
+            boolean negativeExponent = false;
+            if (i < end && (buf[i] == '-' || buf[i] == '+')) {
+                negativeExponent = buf[i] == '-';
+                i++;
+            }
+            int e = 0;
+            int start = i;
+            for (; i < end && buf[i] >= '0' && buf[i] <= '9' && e < 10000; i++) {
+                e = 10 * e + (buf[i] - '0');
+            }
+            if (i == start) fast = false;
+            exponent += negativeExponent ? -e : e;
+        }
+        if (digits == 0 || i != end) fast = false;
+
+        if (fast && exponent >= -22 && exponent <= 22) {
+            double value = mantissa;
+            if (exponent >= 0) value *= POWERS_OF_TEN[exponent];
+            else               value /= POWERS_OF_TEN[-exponent];
+            pos = end;
+            return negative ? -value : value;
+        }
+
+        String s = string(pos, end);
+        pos = end;
+        return parseDouble(s);
+    }
+
+    float readFloat() {
+        return parseFloat(readString());
+    }
+
+    void close() {
+        try {
+            in.close();
+        }
+        catch (IOException e) {
+            // nothing useful to do; the Scanner also ignores this
+        }
+    }
+}
@@ -11,6 +11,14 @@ public class Topological {
     }
   }
 
+  public Topological(CSRDigraph G) {
+    DirectedCycle cyclefinder = new DirectedCycle(G);
+    if (!cyclefinder.hasCycle()) {
+      DepthFirstOrder dfs = new DepthFirstOrder(G);
+      order = dfs.reversePost();
+    }
+  }
+
   public Iterable<Integer> order() {
     return order;
   }